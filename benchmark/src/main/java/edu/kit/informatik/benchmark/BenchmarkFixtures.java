@@ -0,0 +1,133 @@
+package edu.kit.informatik.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import edu.kit.informatik.config.ErrorMessages;
+import edu.kit.informatik.game.QueensFarming;
+import edu.kit.informatik.game.board.Board;
+import edu.kit.informatik.game.type.PlantableTileType;
+import edu.kit.informatik.game.type.VegetableType;
+import edu.kit.informatik.ui.CommandHandler;
+
+/**
+ * Creates the game states the benchmarks run on.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public final class BenchmarkFixtures {
+
+    /** Gold of every player, high enough to never run out during a benchmark */
+    public static final int RICH = 1_000_000_000;
+
+    private static final int GOLD_TO_WIN = Integer.MAX_VALUE;
+    private static final long SEED = 42;
+    private static final int INITIAL_TILES = 3;
+    private static final String[] TRANSCRIPT_COMMANDS = {
+        "show market", "show barn", "show board", "buy vegetable carrot", "sell all", "plant -1 0 carrot",
+        "harvest -1 0 1", "buy land 9 9", "unknown command", "end turn"
+    };
+    // the actions of every player in the first two rounds of a planted game
+    private static final String[][] PLANTED_GAME_TURNS = {
+        {"buy land 0 2", "buy land -1 1"},
+        {"plant 0 1 carrot", "plant -1 0 salad"}
+    };
+
+    private BenchmarkFixtures() {
+        throw new AssertionError(ErrorMessages.UTILITY_CLASS_INSTANTIATION);
+    }
+
+    /**
+     * Creates a game with the given amount of rich players, in which the first
+     * turn has already been started.
+     * 
+     * @param playerCount The amount of players.
+     * @return the game.
+     */
+    public static QueensFarming createGame(final int playerCount) {
+        final String[] playerNames = new String[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            playerNames[i] = "Player" + (char) ('A' + i % 26);
+        }
+
+        final QueensFarming game = new QueensFarming(playerNames, RICH, GOLD_TO_WIN, SEED);
+        game.startNextTurn();
+        return game;
+    }
+
+    /**
+     * Creates a quiet game with the given amount of rich players, in which every
+     * player has bought two tiles and planted two tiles in the first two rounds.
+     * 
+     * @param playerCount The amount of players.
+     * @return the game, at the start of the first player's third turn.
+     */
+    public static QueensFarming createPlantedGame(final int playerCount) {
+        final QueensFarming game = createGame(playerCount);
+        game.setQuiet(true);
+        for (final String[] turn : PLANTED_GAME_TURNS) {
+            for (int i = 0; i < playerCount; i++) {
+                for (final String command : turn) {
+                    CommandHandler.executeCommand(command, game);
+                }
+                game.startNextTurn();
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Creates a board with the given amount of plantable tiles. The tiles are laid
+     * out row by row in a roughly square area above the barn, every type of tile
+     * occurs and every second tile is planted.
+     * 
+     * @param tileCount The amount of plantable tiles, at least three.
+     * @return the board.
+     */
+    public static Board createBoard(final int tileCount) {
+        final Board board = new Board();
+        final PlantableTileType[] tileTypes = PlantableTileType.values();
+        final int width = (int) Math.ceil(Math.sqrt(tileCount)) | 1;
+        final int halfWidth = width / 2;
+
+        int added = INITIAL_TILES;
+        for (int yCoordinate = 1; added < tileCount; yCoordinate++) {
+            for (int xCoordinate = -halfWidth; xCoordinate <= halfWidth && added < tileCount; xCoordinate++) {
+                if (xCoordinate == 0 && yCoordinate == 1) { // initial field
+                    continue;
+                }
+
+                board.addTile(xCoordinate, yCoordinate, tileTypes[added % tileTypes.length]);
+                if (added % 2 == 0) {
+                    board.plant(xCoordinate, yCoordinate, VegetableType.CARROT);
+                }
+                added++;
+            }
+        }
+
+        return board;
+    }
+
+    /**
+     * Creates the input of a complete game of two players, as it would be piped
+     * into the game. The commands are a random mix of rendering, trading, failing
+     * and turn ending commands, followed by quitting the game.
+     * 
+     * @param commandCount The amount of commands after the setup.
+     * @return the transcript as bytes.
+     */
+    public static byte[] createTranscript(final int commandCount) {
+        final Random random = new Random(SEED);
+        final StringBuilder sb = new StringBuilder();
+        sb.append("2\nAnn\nBob\n").append(RICH).append('\n').append(GOLD_TO_WIN).append('\n').append(SEED)
+                .append('\n');
+
+        for (int i = 0; i < commandCount; i++) {
+            sb.append(TRANSCRIPT_COMMANDS[random.nextInt(TRANSCRIPT_COMMANDS.length)]).append('\n');
+        }
+        sb.append("quit\n");
+
+        return sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+}
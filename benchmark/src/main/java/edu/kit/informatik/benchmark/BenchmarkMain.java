@@ -0,0 +1,43 @@
+package edu.kit.informatik.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import edu.kit.informatik.config.ErrorMessages;
+
+/**
+ * The entry point of the benchmarks. Runs all benchmarks with the gc profiler,
+ * so every benchmark reports its throughput and its allocated bytes per
+ * operation. All JMH command line options are supported.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+        throw new AssertionError(ErrorMessages.UTILITY_CLASS_INSTANTIATION);
+    }
+
+    /**
+     * The entry point of the benchmarks.
+     * 
+     * @param args JMH command line arguments
+     * @throws CommandLineOptionException if the arguments are not valid.
+     * @throws RunnerException            if a benchmark fails.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        final Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(BenchmarkMain.class.getPackageName() + ".*Benchmark")
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,112 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.game.QueensFarming;
+import edu.kit.informatik.game.board.Barn;
+import edu.kit.informatik.game.board.Board;
+
+/**
+ * Benchmarks the rendering of the board and the barn, on their own by board size
+ * and as shown to the current player of a game by player count.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardRenderBenchmark {
+
+    @Param({"3", "64", "1024"})
+    private int boardSize;
+
+    private Board board;
+    private Barn barn;
+
+    /**
+     * Creates the board and a barn with the initial vegetables.
+     */
+    @Setup
+    public void setUp() {
+        this.board = BenchmarkFixtures.createBoard(this.boardSize);
+        this.barn = new Barn();
+    }
+
+    /**
+     * Renders the board including the barn.
+     * 
+     * @return the board representation.
+     */
+    @Benchmark
+    public String boardToStringFormatted() {
+        return this.board.toStringFormatted(this.barn);
+    }
+
+    /**
+     * Renders the barn table.
+     * 
+     * @return the barn representation.
+     */
+    @Benchmark
+    public String barnToStringFormatted() {
+        return this.barn.toStringFormatted(BenchmarkFixtures.RICH);
+    }
+
+    /**
+     * Renders the board of the current player of a game.
+     * 
+     * @param state The game to render.
+     * @return the board representation.
+     */
+    @Benchmark
+    public String showBoard(final GameState state) {
+        return state.game.showBoard();
+    }
+
+    /**
+     * Renders the barn of the current player of a game.
+     * 
+     * @param state The game to render.
+     * @return the barn representation.
+     */
+    @Benchmark
+    public String showBarn(final GameState state) {
+        return state.game.showBarn();
+    }
+
+    /**
+     * A game in which every player has bought and planted some tiles.
+     */
+    @State(Scope.Thread)
+    public static class GameState {
+
+        @Param({"1", "4", "1000"})
+        private int playerCount;
+
+        private QueensFarming game;
+
+        /**
+         * Creates the game.
+         */
+        @Setup
+        public void setUp() {
+            this.game = BenchmarkFixtures.createPlantedGame(this.playerCount);
+        }
+    }
+}
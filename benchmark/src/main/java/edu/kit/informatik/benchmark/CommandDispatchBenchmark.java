@@ -0,0 +1,64 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.game.QueensFarming;
+import edu.kit.informatik.ui.CommandHandler;
+
+/**
+ * Benchmarks {@link CommandHandler#executeCommand(String, QueensFarming)} for
+ * commands that don't change the game state, so every invocation does the same
+ * work. Selling without vegetables sells nothing, and the other commands
+ * besides showing the market fail. The commands cover the first and the last
+ * listed command, every kind of argument and an unknown command.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandDispatchBenchmark {
+
+    @Param({"1", "4"})
+    private int playerCount;
+
+    @Param({"show market", "sell", "buy land 5 5", "harvest 0 0 1", "plant 0 0 carrot",
+        "unknown command"})
+    private String command;
+
+    private QueensFarming game;
+
+    /**
+     * Creates the game.
+     */
+    @Setup
+    public void setUp() {
+        this.game = BenchmarkFixtures.createGame(this.playerCount);
+    }
+
+    /**
+     * Dispatches and executes the command.
+     * 
+     * @return the response of the command.
+     */
+    @Benchmark
+    public String executeCommand() {
+        return CommandHandler.executeCommand(this.command, this.game);
+    }
+}
@@ -0,0 +1,87 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.config.ErrorMessages;
+import edu.kit.informatik.ui.CommandHandler;
+import edu.kit.informatik.ui.CommandStatistics;
+import edu.kit.informatik.ui.StatisticsSnapshot;
+
+/**
+ * Benchmarks {@link CommandStatistics} shared by several threads, which record
+ * latencies and errors concurrently, and the snapshot of the statistics.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class CommandStatisticsBenchmark {
+
+    private static final long LATENCY_MASK = (1 << 20) - 1;
+
+    private CommandStatistics statistics;
+
+    /**
+     * Creates the statistics.
+     */
+    @Setup
+    public void setUp() {
+        this.statistics = new CommandStatistics();
+    }
+
+    /**
+     * Records the latency of a command, spread over a thousand buckets.
+     * 
+     * @param recorder The state of the benchmark thread.
+     */
+    @Benchmark
+    public void record(final Recorder recorder) {
+        recorder.latency = (recorder.latency * 31 + 7) & LATENCY_MASK;
+        this.statistics.record(CommandHandler.SHOW_MARKET, recorder.latency);
+    }
+
+    /**
+     * Records an error of a command.
+     */
+    @Benchmark
+    public void recordError() {
+        this.statistics.recordError(CommandHandler.BUY_LAND, ErrorMessages.LAND_NOT_PLACABLE);
+    }
+
+    /**
+     * Takes a snapshot of the statistics.
+     * 
+     * @return the snapshot.
+     */
+    @Benchmark
+    @Threads(1)
+    public StatisticsSnapshot snapshot() {
+        return this.statistics.snapshot();
+    }
+
+    /**
+     * The latencies recorded by one benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Recorder {
+        private long latency;
+    }
+}
@@ -0,0 +1,71 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.game.QueensFarming;
+
+/**
+ * Benchmarks {@link QueensFarming#fork()} on a game in which every player has
+ * bought land and planted it, alone and followed by the first move of a
+ * rollout, which copies the changed parts of the fork.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ForkBenchmark {
+
+    @Param({"1", "4"})
+    private int playerCount;
+
+    private QueensFarming game;
+
+    /**
+     * Creates the game.
+     */
+    @Setup
+    public void setUp() {
+        this.game = BenchmarkFixtures.createPlantedGame(this.playerCount);
+    }
+
+    /**
+     * Forks the game.
+     * 
+     * @return the fork.
+     */
+    @Benchmark
+    public QueensFarming fork() {
+        return this.game.fork();
+    }
+
+    /**
+     * Forks the game and ends the turn in the fork, which changes the market, a
+     * board and a barn.
+     * 
+     * @return the fork.
+     */
+    @Benchmark
+    public QueensFarming forkAndEndTurn() {
+        final QueensFarming fork = this.game.fork();
+        fork.endTurn();
+        fork.startNextTurn();
+        return fork;
+    }
+}
@@ -0,0 +1,97 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.server.GameActor;
+
+/**
+ * Benchmarks {@link GameActor} with many games sharing a small scheduler. Every
+ * benchmark thread is a producer sending commands to all games, so every
+ * mailbox has several concurrent producers.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class GameActorBenchmark {
+
+    private static final int COMMANDS = 1 << 12;
+    private static final int SCHEDULER_THREADS = 4;
+
+    @Param({"1", "1000"})
+    private int gameCount;
+
+    private ExecutorService scheduler;
+    private GameActor[] actors;
+
+    /**
+     * Creates the games and their actors.
+     */
+    @Setup
+    public void setUp() {
+        this.scheduler = Executors.newFixedThreadPool(SCHEDULER_THREADS);
+        this.actors = new GameActor[this.gameCount];
+        for (int i = 0; i < this.gameCount; i++) {
+            this.actors[i] = new GameActor(BenchmarkFixtures.createGame(1), this.scheduler);
+        }
+    }
+
+    /**
+     * Stops the scheduler.
+     */
+    @TearDown
+    public void tearDown() {
+        this.scheduler.shutdown();
+    }
+
+    /**
+     * Sends commands to the games round-robin and waits for all responses.
+     * 
+     * @param producer The state of the benchmark thread.
+     */
+    @Benchmark
+    @OperationsPerInvocation(COMMANDS)
+    public void submit(final Producer producer) {
+        producer.pending.set(COMMANDS);
+        for (int i = 0; i < COMMANDS; i++) {
+            this.actors[i % this.actors.length].submit("show market", producer.callback);
+        }
+        while (producer.pending.get() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Counts the responses to the commands of one benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Producer {
+        private final AtomicInteger pending = new AtomicInteger();
+        private final Consumer<String> callback = response -> this.pending.decrementAndGet();
+    }
+}
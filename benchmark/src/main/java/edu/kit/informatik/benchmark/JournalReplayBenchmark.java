@@ -0,0 +1,110 @@
+package edu.kit.informatik.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.game.QueensFarming;
+import edu.kit.informatik.persistence.CommandJournal;
+import edu.kit.informatik.persistence.JournalReplayer;
+import edu.kit.informatik.simulation.GameSpec;
+import edu.kit.informatik.simulation.RandomCommandSource;
+import edu.kit.informatik.ui.CommandHandler;
+
+/**
+ * Benchmarks rebuilding a game from its command journal against executing the
+ * typed commands of the same game again.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalReplayBenchmark {
+
+    private static final long SEED = 42;
+    private static final int GOLD_TO_WIN = Integer.MAX_VALUE;
+
+    @Param({"1000", "10000"})
+    private int commandCount;
+
+    private GameSpec spec;
+    private List<String> commands;
+    private ByteBuffer journal;
+
+    /**
+     * Plays a game with random commands and records it in a journal.
+     * 
+     * @throws IOException if the journal can't be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.spec = new GameSpec(new String[] {"Ann", "Bob"}, BenchmarkFixtures.RICH, GOLD_TO_WIN, SEED);
+        this.commands = new ArrayList<>();
+
+        final Path path = Files.createTempFile("journal", ".bin");
+        try (CommandJournal commandJournal = CommandJournal.create(path, this.spec)) {
+            final QueensFarming game = this.spec.createGame();
+            final RandomCommandSource source = new RandomCommandSource(SEED, this.commandCount);
+            game.startNextTurn();
+            for (String command = source.nextCommand(game); command != null; command = source.nextCommand(game)) {
+                this.commands.add(command);
+                CommandHandler.executeCommand(command, game, commandJournal);
+                if (!game.isTurnRunning()) {
+                    game.startNextTurn();
+                }
+            }
+        }
+        this.journal = ByteBuffer.wrap(Files.readAllBytes(path));
+        Files.delete(path);
+    }
+
+    /**
+     * Rebuilds the game from the journal.
+     * 
+     * @return the rebuilt game.
+     * @throws IOException never, the journal is valid.
+     */
+    @Benchmark
+    public QueensFarming replayJournal() throws IOException {
+        return new JournalReplayer(this.journal.duplicate()).replay();
+    }
+
+    /**
+     * Rebuilds the game by executing the typed commands again.
+     * 
+     * @return the rebuilt game.
+     */
+    @Benchmark
+    public QueensFarming executeCommands() {
+        final QueensFarming game = this.spec.createGame();
+        game.startNextTurn();
+        for (final String command : this.commands) {
+            CommandHandler.executeCommand(command, game);
+            if (!game.isTurnRunning()) {
+                game.startNextTurn();
+            }
+        }
+        return game;
+    }
+}
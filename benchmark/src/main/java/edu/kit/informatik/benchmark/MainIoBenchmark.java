@@ -0,0 +1,113 @@
+package edu.kit.informatik.benchmark;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.ui.Main;
+
+/**
+ * Benchmarks piping a multi-megabyte command transcript through {@link Main} in
+ * the interactive and in the batch mode. The output is written to a temporary
+ * file through an auto-flushing stream, like the console output of the JVM.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MainIoBenchmark {
+
+    private static final int CONSOLE_BUFFER_SIZE = 8192;
+
+    @Param({"400000"})
+    private int commandCount;
+
+    @Param({"interactive", "batch"})
+    private String mode;
+
+    private byte[] transcript;
+    private String[] arguments;
+    private File outputFile;
+    private InputStream originalIn;
+    private PrintStream originalOut;
+    private PrintStream fileOut;
+
+    /**
+     * Creates the transcript and the output file.
+     * 
+     * @throws IOException if the output file can't be created.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.transcript = BenchmarkFixtures.createTranscript(this.commandCount);
+        this.arguments = this.mode.equals("batch") ? new String[] {Main.BATCH_MODE_ARGUMENT} : new String[0];
+        this.outputFile = File.createTempFile("queens-farming", ".out");
+        this.outputFile.deleteOnExit();
+
+        this.originalIn = System.in;
+        this.originalOut = System.out;
+    }
+
+    /**
+     * Redirects the standard output into the truncated output file.
+     * 
+     * @throws IOException if the output file can't be opened.
+     */
+    @Setup(Level.Iteration)
+    public void redirectOutput() throws IOException {
+        this.fileOut = new PrintStream(
+                new BufferedOutputStream(new FileOutputStream(this.outputFile), CONSOLE_BUFFER_SIZE), true);
+        System.setOut(this.fileOut);
+    }
+
+    /**
+     * Restores the standard output.
+     */
+    @TearDown(Level.Iteration)
+    public void restoreOutput() {
+        System.setOut(this.originalOut);
+        this.fileOut.close();
+    }
+
+    /**
+     * Restores the standard input and deletes the output file.
+     */
+    @TearDown
+    public void tearDown() {
+        System.setIn(this.originalIn);
+        this.outputFile.delete();
+    }
+
+    /**
+     * Plays the whole transcript.
+     */
+    @Benchmark
+    public void playTranscript() {
+        System.setIn(new ByteArrayInputStream(this.transcript));
+        Main.main(this.arguments);
+    }
+}
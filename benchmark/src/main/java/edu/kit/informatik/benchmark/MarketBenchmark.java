@@ -0,0 +1,96 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.game.Market;
+import edu.kit.informatik.game.type.VegetableType;
+
+/**
+ * Benchmarks the market representation and selling vegetables. The sales are
+ * precomputed, and every iteration starts with a new market, so the measurement
+ * only contains the sales themselves.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarketBenchmark {
+
+    private static final int SALES = 1 << 10;
+    private static final long SEED = 42;
+
+    @Param({"1", "64"})
+    private int unitsPerVegetable;
+
+    private int[][] sales;
+    private Market market;
+
+    /**
+     * Creates the sales with up to the given units of every vegetable.
+     */
+    @Setup
+    public void setUp() {
+        final Random random = new Random(SEED);
+        this.sales = new int[SALES][VegetableType.values().length];
+        for (final int[] sale : this.sales) {
+            for (int i = 0; i < sale.length; i++) {
+                sale[i] = random.nextInt(this.unitsPerVegetable + 1);
+            }
+        }
+    }
+
+    /**
+     * Creates a new market, so the sold vegetables of the previous iteration are
+     * gone.
+     */
+    @Setup(Level.Iteration)
+    public void resetMarket() {
+        this.market = new Market();
+    }
+
+    /**
+     * Renders the market prices.
+     * 
+     * @return the market representation.
+     */
+    @Benchmark
+    public String marketToString() {
+        return this.market.toString();
+    }
+
+    /**
+     * Sells all precomputed sales at the market. The prices only change between
+     * turns, so every sale of an iteration is sold for the same prices.
+     * 
+     * @return the total price of all sales.
+     */
+    @Benchmark
+    @OperationsPerInvocation(SALES)
+    public int sellBatch() {
+        int totalPrice = 0;
+        for (final int[] sale : this.sales) {
+            totalPrice += this.market.sellBatch(sale);
+        }
+        return totalPrice;
+    }
+}
@@ -0,0 +1,79 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.game.MoveList;
+import edu.kit.informatik.game.QueensFarming;
+import edu.kit.informatik.game.board.Board;
+
+/**
+ * Benchmarks {@link QueensFarming#generateMoves(MoveList)} on a game in which
+ * every player has bought and planted land, and the check of a placable space
+ * on a large board.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveGenerationBenchmark {
+
+    private static final int BOARD_SIZE = 100;
+
+    @Param({"1", "4"})
+    private int playerCount;
+
+    private QueensFarming game;
+    private MoveList moves;
+    private Board board;
+    private int probe;
+
+    /**
+     * Creates the game, the move list and the board.
+     */
+    @Setup
+    public void setUp() {
+        this.game = BenchmarkFixtures.createPlantedGame(this.playerCount);
+        this.moves = new MoveList();
+        this.board = BenchmarkFixtures.createBoard(BOARD_SIZE);
+    }
+
+    /**
+     * Generates all moves of the current player.
+     * 
+     * @return the moves.
+     */
+    @Benchmark
+    public MoveList generateMoves() {
+        this.game.generateMoves(this.moves);
+        return this.moves;
+    }
+
+    /**
+     * Checks whether a location of the board is a placable space, cycling through
+     * the locations of a row above the board.
+     * 
+     * @return whether the location is placable.
+     */
+    @Benchmark
+    public boolean isPlacableSpace() {
+        this.probe = (this.probe + 1) & (Integer.highestOneBit(BOARD_SIZE) - 1);
+        return this.board.isPlacableSpace(this.probe - BOARD_SIZE / 10, BOARD_SIZE / 10);
+    }
+}
@@ -0,0 +1,177 @@
+package edu.kit.informatik.benchmark;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.server.GameServer;
+import edu.kit.informatik.server.LineReader;
+import edu.kit.informatik.server.NioGameServer;
+
+/**
+ * Benchmarks the throughput and latency of commands sent to a local
+ * {@link GameServer} or {@link NioGameServer}. Every benchmark thread is a load-generating client with
+ * its own session, while the given amount of idle sessions stays connected.
+ * Each idle session uses two file descriptors in this process, so large
+ * amounts need a raised limit of open files.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class ServerLoadBenchmark {
+
+    private static final byte[] COMMAND = "show leaderboard\n".getBytes(StandardCharsets.US_ASCII);
+    private static final int NIO_WORKER_COUNT = 2;
+
+    @Param({"0", "1000"})
+    private int idleSessions;
+
+    @Param({"thread", "nio"})
+    private String serverType;
+
+    private Closeable server;
+    private int port;
+    private IntSupplier sessionCount;
+    private List<Socket> idleConnections;
+
+    /**
+     * Starts the server and opens the idle sessions.
+     * 
+     * @throws IOException if the server can't be started or connected to.
+     * @throws InterruptedException if interrupted while waiting for the sessions.
+     */
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        final Runnable serve;
+        if ("nio".equals(this.serverType)) {
+            final NioGameServer nioServer = new NioGameServer(0, NIO_WORKER_COUNT);
+            this.server = nioServer;
+            this.port = nioServer.getPort();
+            this.sessionCount = nioServer::getSessionCount;
+            serve = nioServer::serve;
+        } else {
+            final GameServer threadServer = new GameServer(0);
+            this.server = threadServer;
+            this.port = threadServer.getPort();
+            this.sessionCount = threadServer::getSessionCount;
+            serve = threadServer::serve;
+        }
+        final Thread acceptor = new Thread(serve);
+        acceptor.setDaemon(true);
+        acceptor.start();
+
+        this.idleConnections = new ArrayList<>(this.idleSessions);
+        for (int i = 0; i < this.idleSessions; i++) {
+            this.idleConnections.add(connect(this.port));
+        }
+        while (this.sessionCount.getAsInt() < this.idleSessions) {
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * Closes the idle sessions and stops the server.
+     * 
+     * @throws IOException if a connection can't be closed.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        for (final Socket connection : this.idleConnections) {
+            connection.close();
+        }
+        this.server.close();
+    }
+
+    private static Socket connect(final int port) throws IOException {
+        final Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        socket.setTcpNoDelay(true);
+        return socket;
+    }
+
+    /**
+     * Sends a command and waits for its response.
+     * 
+     * @param client The session of the benchmark thread.
+     * @return the response.
+     * @throws IOException if the connection fails.
+     */
+    @Benchmark
+    public String roundTrip(final Client client) throws IOException {
+        client.output.write(COMMAND);
+        client.output.flush();
+        return client.input.readLine();
+    }
+
+    /**
+     * A client that has set up a game of a single player and waits for commands.
+     */
+    @State(Scope.Thread)
+    public static class Client {
+
+        private static final byte[] SETUP = "1\nAnn\n1000\n1000000\n42\n".getBytes(StandardCharsets.US_ASCII);
+        private static final String FIRST_TURN = "It is Ann's turn!";
+
+        private Socket socket;
+        private LineReader input;
+        private OutputStream output;
+
+        /**
+         * Connects to the server and sets up the game.
+         * 
+         * @param benchmark The benchmark with the running server.
+         * @throws IOException if the connection fails.
+         */
+        @Setup
+        public void connect(final ServerLoadBenchmark benchmark) throws IOException {
+            this.socket = ServerLoadBenchmark.connect(benchmark.port);
+            this.input = new LineReader(this.socket.getInputStream());
+            this.output = this.socket.getOutputStream();
+
+            this.output.write(SETUP);
+            this.output.flush();
+            for (String line = this.input.readLine(); !FIRST_TURN.equals(line); line = this.input.readLine()) {
+                if (line == null) {
+                    throw new IOException("The game has not started");
+                }
+            }
+        }
+
+        /**
+         * Closes the session.
+         * 
+         * @throws IOException if the connection can't be closed.
+         */
+        @TearDown
+        public void disconnect() throws IOException {
+            this.socket.close();
+        }
+    }
+}
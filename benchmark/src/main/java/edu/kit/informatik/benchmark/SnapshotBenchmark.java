@@ -0,0 +1,92 @@
+package edu.kit.informatik.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.game.QueensFarming;
+import edu.kit.informatik.persistence.SnapshotReader;
+import edu.kit.informatik.persistence.SnapshotWriter;
+import edu.kit.informatik.simulation.RandomCommandSource;
+import edu.kit.informatik.ui.CommandHandler;
+
+/**
+ * Benchmarks writing and reading binary snapshots of a game that has been
+ * played for a while.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"2", "8"})
+    private int playerCount;
+
+    @Param({"0", "1000"})
+    private int playedCommands;
+
+    private QueensFarming game;
+    private SnapshotWriter writer;
+    private ByteBuffer snapshot;
+
+    /**
+     * Plays the game and encodes it once for the reading benchmark.
+     */
+    @Setup
+    public void setUp() {
+        this.game = BenchmarkFixtures.createGame(this.playerCount);
+        final RandomCommandSource source = new RandomCommandSource(SEED, this.playedCommands);
+        for (String command = source.nextCommand(this.game); command != null;
+                command = source.nextCommand(this.game)) {
+            CommandHandler.executeCommand(command, this.game);
+            if (!this.game.isTurnRunning()) {
+                this.game.startNextTurn();
+            }
+        }
+
+        this.writer = new SnapshotWriter();
+        final ByteBuffer encoded = this.writer.encode(this.game);
+        this.snapshot = ByteBuffer.allocateDirect(encoded.remaining()).put(encoded).flip();
+    }
+
+    /**
+     * Encodes the game into the reused buffer of the writer.
+     * 
+     * @return the encoded snapshot.
+     */
+    @Benchmark
+    public ByteBuffer encode() {
+        return this.writer.encode(this.game);
+    }
+
+    /**
+     * Restores the game from its snapshot.
+     * 
+     * @return the restored game.
+     * @throws IOException never, the snapshot is valid.
+     */
+    @Benchmark
+    public QueensFarming decode() throws IOException {
+        return SnapshotReader.decode(this.snapshot.duplicate());
+    }
+}
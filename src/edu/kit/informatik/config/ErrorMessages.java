@@ -9,9 +9,58 @@ package edu.kit.informatik.config;
 public final class ErrorMessages {
 
     /**
-     * Error message in case the program is started with arguments
+     * Error message in case the program is started with arguments other than the
+     * batch mode and journal arguments
      */
-    public static final String ILLEGAL_ARGS_COUNT = GeneralConfig.ERROR + "Expected no arguments!";
+    public static final String ILLEGAL_ARGS_COUNT = GeneralConfig.ERROR
+            + "Expected the arguments [--batch] [--journal <file>]!";
+    /**
+     * Error message in case the simulation is started with the wrong arguments
+     */
+    public static final String ILLEGAL_SIMULATION_ARGS = GeneralConfig.ERROR
+            + "Expected <games> <players> <goldAtStart> <goldToWin> <seed> <commandsPerGame>!";
+    /**
+     * Error message in case the server is started with the wrong arguments
+     */
+    public static final String ILLEGAL_SERVER_ARGS = GeneralConfig.ERROR + "Expected the arguments [--nio] <port>!";
+    /**
+     * Error message in case the server can't listen on the given port
+     */
+    public static final String SERVER_NOT_STARTED = GeneralConfig.ERROR + "The server couldn't be started!";
+    /**
+     * Error message in case the server can't serve another session
+     */
+    public static final String SERVER_FULL = GeneralConfig.ERROR + "The server is full, try again later!";
+    /**
+     * Error message in case a game on the server would have too many players
+     */
+    public static final String TOO_MANY_PLAYERS = GeneralConfig.ERROR + "A game may have at most "
+            + GeneralConfig.MAX_SESSION_PLAYER_COUNT + " players!";
+    /**
+     * Error message in case a command is sent to a game that has already ended
+     */
+    public static final String GAME_ENDED = GeneralConfig.ERROR + "The game has already ended!";
+    /**
+     * Error message in case a command failed unexpectedly on the server
+     */
+    public static final String COMMAND_FAILED = GeneralConfig.ERROR + "The command couldn't be executed!";
+    /**
+     * Error message in case a client sends a line longer than the server accepts
+     */
+    public static final String LINE_TOO_LONG = GeneralConfig.ERROR + "The line is too long!";
+    /**
+     * Error message in case a game snapshot is damaged or has an unknown format
+     */
+    public static final String INVALID_SNAPSHOT = GeneralConfig.ERROR + "The game snapshot is invalid!";
+    /**
+     * Error message in case a command journal is damaged or doesn't fit to the game
+     */
+    public static final String INVALID_JOURNAL = GeneralConfig.ERROR + "The command journal is invalid!";
+    /**
+     * Error message in case the command journal can't be read or written
+     */
+    public static final String JOURNAL_NOT_ACCESSIBLE = GeneralConfig.ERROR
+            + "The command journal can't be accessed!";
     /**
      * Error message when trying to initialize a utility class
      */
@@ -22,6 +71,11 @@ public final class ErrorMessages {
      * Error message in case a input is expected to be a number
      */
     public static final String INPUT_NOT_NUMBER = GeneralConfig.ERROR + "Input must be a number!";
+    /**
+     * Error message in case a number of a command doesn't fit into an int
+     */
+    public static final String NUMBER_OUT_OF_RANGE = GeneralConfig.ERROR
+            + "Number must be in the interval [-2147483648,2147483647]!";
     /**
      * Error message in case a number has to be bigger the zero
      */
@@ -63,6 +117,10 @@ public final class ErrorMessages {
      */
     public static final String LAND_NOT_OWNED = GeneralConfig.ERROR + "You don't own land at this location!";
 
+    /**
+     * Error message in case a move is played while no turn is running
+     */
+    public static final String NO_TURN_RUNNING = GeneralConfig.ERROR + "There is no turn to play the move in!";
     /**
      * Error message in case a player tries to plant a vegetable they doesn't have
      */
@@ -15,6 +15,15 @@ public final class GeneralConfig {
      */
     public static final String ERROR = "Error: ";
 
+    /**
+     * Pattern every player name has to match
+     */
+    public static final String VALID_PLAYER_NAME_REGEX = "[A-Za-z]+";
+    /**
+     * The maximum number of players in a game hosted by the server
+     */
+    public static final int MAX_SESSION_PLAYER_COUNT = 1000;
+
     /**
      * Allowed vegetable types to plant in a garden
      */
@@ -40,6 +49,16 @@ public final class GeneralConfig {
         VegetableType.MUSHROOM
     };
 
+    /**
+     * Vegetable types in the order in which they are shown at the market
+     */
+    public static final VegetableType[] MARKET_VEGETABLES = {
+        VegetableType.MUSHROOM,
+        VegetableType.CARROT,
+        VegetableType.TOMATO,
+        VegetableType.SALAD
+    };
+
     /**
      * Pixel art shown at the beginning of the game
      */
@@ -1,14 +1,15 @@
 package edu.kit.informatik.game;
 
-import java.util.EnumMap;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import edu.kit.informatik.game.type.VegetableType;
-import edu.kit.informatik.util.MapUtil;
 
 /**
  * Represents the market of the game queens farming.
+ * The current prices are kept in a {@link PriceSnapshot}, which is only
+ * replaced in {@link #startNextTurn()} when the prices change. The prices and
+ * sold amounts of past turns are kept in a {@link MarketHistory}.
  * 
  * @author uiljo
  * @version 1.0
@@ -22,34 +23,117 @@ public class Market {
     private static final int MAX_INDEX = 4;
     private static final int MIN_INDEX = 0;
     private static final int DEFAULT_START_INDEX = 2;
-
-    private final Map<VegetableType, Integer> soldVegetables;
-    private int mushroomCarrotIndex;
-    private int tomatoSaladIndex;
+    private static final int HISTORY_CAPACITY = 64;
+    private static final VegetableType[] VEGETABLE_TYPES = VegetableType.values();
+    private static final int MUSHROOM_CARROT_GROUP = 0;
+    private static final int TOMATO_SALAD_GROUP = 1;
+    private static final int GROUP_COUNT = 2;
+
+    // prices indexed by [ordinal of the vegetable type][price index]
+    private static final int[][] PRICE_TABLE = createPriceTable();
+    // the group sharing a price index, indexed by the ordinal of the vegetable type
+    private static final int[] PRICE_GROUPS = createPriceGroups();
+
+    // sold vegetables of the current turn, indexed by the ordinal of the vegetable type
+    private final int[] soldVegetables;
+    private final MarketHistory history;
+    // price index of every group
+    private final int[] priceIndices;
+    private PriceSnapshot prices;
 
     /**
      * Instantiates a new {@link Market}.
      */
     public Market() {
-        this.mushroomCarrotIndex = DEFAULT_START_INDEX;
-        this.tomatoSaladIndex = DEFAULT_START_INDEX;
+        this.priceIndices = new int[GROUP_COUNT];
+        Arrays.fill(this.priceIndices, DEFAULT_START_INDEX);
+
+        this.soldVegetables = new int[VEGETABLE_TYPES.length];
+        this.prices = this.createSnapshot();
+        this.history = new MarketHistory(HISTORY_CAPACITY);
+    }
+
+    /**
+     * Instantiates a {@link Market} from a snapshot.
+     * 
+     * @param buffer The buffer positioned at the snapshot of the market.
+     * @see #writeTo(ByteBuffer)
+     */
+    public Market(final ByteBuffer buffer) {
+        this.priceIndices = new int[GROUP_COUNT];
+        this.priceIndices[MUSHROOM_CARROT_GROUP] = buffer.getInt();
+        this.priceIndices[TOMATO_SALAD_GROUP] = buffer.getInt();
+
+        this.soldVegetables = new int[VEGETABLE_TYPES.length];
+        for (int i = 0; i < this.soldVegetables.length; i++) {
+            this.soldVegetables[i] = buffer.getInt();
+        }
+        this.prices = this.createSnapshot();
+        this.history = new MarketHistory(buffer);
+    }
+
+    private Market(final Market other) {
+        this.priceIndices = other.priceIndices.clone();
+
+        this.soldVegetables = other.soldVegetables.clone();
+        this.prices = other.prices;
+        this.history = other.history.fork();
+    }
 
-        this.soldVegetables = new EnumMap<>(VegetableType.class);
-        MapUtil.setVegetablesToValue(this.soldVegetables, 0);
+    /**
+     * Returns a deep copy of the market, which can be changed independently of
+     * this market. The immutable price snapshot is shared.
+     * 
+     * @return the fork.
+     */
+    public Market fork() {
+        return new Market(this);
+    }
+
+    private static int[][] createPriceTable() {
+        final int[][] priceTable = new int[VEGETABLE_TYPES.length][];
+        priceTable[VegetableType.MUSHROOM.ordinal()] = MUSHROOM_PRICES;
+        priceTable[VegetableType.CARROT.ordinal()] = CARROT_PRICES;
+        priceTable[VegetableType.TOMATO.ordinal()] = TOMATO_PRICES;
+        priceTable[VegetableType.SALAD.ordinal()] = SALAD_PRICES;
+        return priceTable;
+    }
+
+    private static int[] createPriceGroups() {
+        final int[] priceGroups = new int[VEGETABLE_TYPES.length];
+        priceGroups[VegetableType.MUSHROOM.ordinal()] = MUSHROOM_CARROT_GROUP;
+        priceGroups[VegetableType.CARROT.ordinal()] = MUSHROOM_CARROT_GROUP;
+        priceGroups[VegetableType.TOMATO.ordinal()] = TOMATO_SALAD_GROUP;
+        priceGroups[VegetableType.SALAD.ordinal()] = TOMATO_SALAD_GROUP;
+        return priceGroups;
+    }
+
+    private PriceSnapshot createSnapshot() {
+        final int[] currentPrices = new int[PRICE_TABLE.length];
+        for (int ordinal = 0; ordinal < currentPrices.length; ordinal++) {
+            currentPrices[ordinal] = PRICE_TABLE[ordinal][this.priceIndices[PRICE_GROUPS[ordinal]]];
+        }
+        return new PriceSnapshot(currentPrices);
     }
 
     /**
-     * Sells a given vegetable and adds it to a list of sold vegetables, so that the
-     * price can change after the round.
+     * Sells the given amounts of vegetables and adds them to the sold vegetables,
+     * so that the prices can change after the round. Prices only change between
+     * turns, so every vegetable of a type is sold for the same price.
      * 
-     * @param vegetable The type of vegetable to sell.
-     * @return The current price of the sold vegetable.
+     * @param vegetableCounts The amount of every vegetable to sell, indexed by the
+     *                        ordinal of the vegetable type.
+     * @return The total price of all sold vegetables.
      */
-    public int sell(final VegetableType vegetable) {
-        final int currentCount = this.soldVegetables.get(vegetable);
-        this.soldVegetables.put(vegetable, currentCount + 1);
+    public int sellBatch(final int[] vegetableCounts) {
+        int totalPrice = 0;
+        for (final VegetableType vegetable : VEGETABLE_TYPES) {
+            final int count = vegetableCounts[vegetable.ordinal()];
+            this.soldVegetables[vegetable.ordinal()] += count;
+            totalPrice += count * this.getPrice(vegetable);
+        }
 
-        return this.getPrice(vegetable);
+        return totalPrice;
     }
 
     /**
@@ -57,69 +141,92 @@ public class Market {
      * Automatically changes prices depending on sold vegetables.
      */
     public void startNextTurn() {
-        final int mushroomCount = this.soldVegetables.get(VegetableType.MUSHROOM);
-        final int carrotCount = this.soldVegetables.get(VegetableType.CARROT);
-        final int tomatoCount = this.soldVegetables.get(VegetableType.TOMATO);
-        final int saladCount = this.soldVegetables.get(VegetableType.SALAD);
-
-        if (mushroomCount - carrotCount >= 2) {
-            int pairs = (mushroomCount - carrotCount) / 2;
-            this.mushroomCarrotIndex -= pairs;
-        } else if (carrotCount - mushroomCount >= 2) {
-            int pairs = (carrotCount - mushroomCount) / 2;
-            this.mushroomCarrotIndex += pairs;
-        }
-        if (tomatoCount - saladCount >= 2) {
-            int pairs = (tomatoCount - saladCount) / 2;
-            this.tomatoSaladIndex -= pairs;
-        } else if (saladCount - tomatoCount >= 2) {
-            int pairs = (saladCount - tomatoCount) / 2;
-            this.tomatoSaladIndex += pairs;
+        this.history.record(this.prices, this.soldVegetables);
+
+        final int previousMushroomCarrotIndex = this.priceIndices[MUSHROOM_CARROT_GROUP];
+        final int previousTomatoSaladIndex = this.priceIndices[TOMATO_SALAD_GROUP];
+
+        final int mushroomCount = this.soldVegetables[VegetableType.MUSHROOM.ordinal()];
+        final int carrotCount = this.soldVegetables[VegetableType.CARROT.ordinal()];
+        final int tomatoCount = this.soldVegetables[VegetableType.TOMATO.ordinal()];
+        final int saladCount = this.soldVegetables[VegetableType.SALAD.ordinal()];
+
+        this.movePriceIndex(MUSHROOM_CARROT_GROUP, mushroomCount, carrotCount);
+        this.movePriceIndex(TOMATO_SALAD_GROUP, tomatoCount, saladCount);
+
+        // clear sold vegetables
+        Arrays.fill(this.soldVegetables, 0);
+
+        if (this.priceIndices[MUSHROOM_CARROT_GROUP] != previousMushroomCarrotIndex
+                || this.priceIndices[TOMATO_SALAD_GROUP] != previousTomatoSaladIndex) {
+            this.prices = this.createSnapshot();
         }
+    }
 
-        // check that all indices are in the right range
-        this.mushroomCarrotIndex = Math.min(this.mushroomCarrotIndex, MAX_INDEX);
-        this.mushroomCarrotIndex = Math.max(MIN_INDEX, this.mushroomCarrotIndex);
-        this.tomatoSaladIndex = Math.min(this.tomatoSaladIndex, MAX_INDEX);
-        this.tomatoSaladIndex = Math.max(MIN_INDEX, this.tomatoSaladIndex);
+    /**
+     * Moves the price index of a group by one step for every two vegetables of
+     * one type sold more than of the other type, and keeps it in range.
+     */
+    private void movePriceIndex(final int group, final int lowerIndexCount, final int higherIndexCount) {
+        int index = this.priceIndices[group];
+        if (lowerIndexCount - higherIndexCount >= 2) {
+            int pairs = (lowerIndexCount - higherIndexCount) / 2;
+            index -= pairs;
+        } else if (higherIndexCount - lowerIndexCount >= 2) {
+            int pairs = (higherIndexCount - lowerIndexCount) / 2;
+            index += pairs;
+        }
 
-        // clear map
-        MapUtil.setVegetablesToValue(this.soldVegetables, 0);
+        // check that the index is in the right range
+        index = Math.min(index, MAX_INDEX);
+        this.priceIndices[group] = Math.max(MIN_INDEX, index);
     }
 
     /**
      * Returns the current price of a given vegetable at the market.
      * 
      * @param vegetable The type of vegetable to get the price from.
-     * @return The current price or 0 if price isn't known.
+     * @return The current price.
      */
     public int getPrice(final VegetableType vegetable) {
-        switch (vegetable) {
-            case MUSHROOM:
-                return MUSHROOM_PRICES[this.mushroomCarrotIndex];
-
-            case CARROT:
-                return CARROT_PRICES[this.mushroomCarrotIndex];
+        return this.prices.getPrice(vegetable);
+    }
 
-            case SALAD:
-                return SALAD_PRICES[this.tomatoSaladIndex];
+    /**
+     * Returns the prices of all vegetables in the current turn.
+     * 
+     * @return The current price snapshot.
+     */
+    public PriceSnapshot getPrices() {
+        return this.prices;
+    }
 
-            case TOMATO:
-                return TOMATO_PRICES[this.tomatoSaladIndex];
+    /**
+     * Returns the prices and sold amounts of the past turns.
+     * 
+     * @return The market history.
+     */
+    public MarketHistory getHistory() {
+        return this.history;
+    }
 
-            default:
-                return 0;
+    /**
+     * Writes the snapshot of the market, which can be read by
+     * {@link #Market(ByteBuffer)}.
+     * 
+     * @param buffer The buffer to write to.
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        buffer.putInt(this.priceIndices[MUSHROOM_CARROT_GROUP]);
+        buffer.putInt(this.priceIndices[TOMATO_SALAD_GROUP]);
+        for (final int soldCount : this.soldVegetables) {
+            buffer.putInt(soldCount);
         }
+        this.history.writeTo(buffer);
     }
 
     @Override
     public String toString() {
-        Map<VegetableType, Integer> data = new LinkedHashMap<>();
-        data.put(VegetableType.MUSHROOM, MUSHROOM_PRICES[this.mushroomCarrotIndex]);
-        data.put(VegetableType.CARROT, CARROT_PRICES[this.mushroomCarrotIndex]);
-        data.put(VegetableType.TOMATO, TOMATO_PRICES[this.tomatoSaladIndex]);
-        data.put(VegetableType.SALAD, SALAD_PRICES[this.tomatoSaladIndex]);
-
-        return MapUtil.formatToTable(data);
+        return this.prices.toString();
     }
 }
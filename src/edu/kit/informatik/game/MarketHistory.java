@@ -0,0 +1,292 @@
+package edu.kit.informatik.game;
+
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Objects;
+
+import edu.kit.informatik.config.GeneralConfig;
+import edu.kit.informatik.game.type.VegetableType;
+
+/**
+ * Records the prices and sold amounts of the market for a fixed number of past
+ * turns. When the history is full, the oldest turn is overwritten.
+ * All values are stored in primitive arrays, so recording a turn doesn't
+ * allocate anything. A {@link #fork()} shares the arrays until either history
+ * records a turn.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class MarketHistory {
+
+    private static final VegetableType[] VEGETABLE_TYPES = VegetableType.values();
+    private static final int TYPE_COUNT = VEGETABLE_TYPES.length;
+
+    private final int capacity;
+    // values of a turn are stored at [slot * TYPE_COUNT + ordinal of the vegetable type]
+    private int[] prices;
+    private int[] volumes;
+    // sold amounts of all turns up to and including the turn of a slot
+    private long[] cumulativeVolumes;
+    private long[] totalVolumes;
+
+    private int nextSlot;
+    private int size;
+    private int recordedTurns;
+    private boolean isShared;
+
+    /**
+     * Instantiates a new {@link MarketHistory}.
+     * 
+     * @param capacity The maximum number of turns to remember.
+     */
+    public MarketHistory(final int capacity) {
+        this.capacity = capacity;
+        this.prices = new int[capacity * TYPE_COUNT];
+        this.volumes = new int[capacity * TYPE_COUNT];
+        this.cumulativeVolumes = new long[capacity * TYPE_COUNT];
+        this.totalVolumes = new long[TYPE_COUNT];
+    }
+
+    /**
+     * Instantiates a {@link MarketHistory} from a snapshot.
+     * 
+     * @param buffer The buffer positioned at the snapshot of the history.
+     * @see #writeTo(ByteBuffer)
+     */
+    public MarketHistory(final ByteBuffer buffer) {
+        this(buffer.getInt());
+        this.recordedTurns = buffer.getInt();
+        this.size = buffer.getInt();
+        this.nextSlot = this.size % this.capacity;
+        for (int i = 0; i < TYPE_COUNT; i++) {
+            this.totalVolumes[i] = buffer.getLong();
+        }
+
+        // the turns are stored from the oldest one in slot 0 to the latest one
+        for (int i = 0; i < this.size * TYPE_COUNT; i++) {
+            this.prices[i] = buffer.getInt();
+            this.volumes[i] = buffer.getInt();
+        }
+
+        // the cumulative volumes are derived backwards from the total volumes
+        for (int ordinal = 0; ordinal < TYPE_COUNT; ordinal++) {
+            long cumulativeVolume = this.totalVolumes[ordinal];
+            for (int slot = this.size - 1; slot >= 0; slot--) {
+                this.cumulativeVolumes[slot * TYPE_COUNT + ordinal] = cumulativeVolume;
+                cumulativeVolume -= this.volumes[slot * TYPE_COUNT + ordinal];
+            }
+        }
+    }
+
+    private MarketHistory(final MarketHistory other) {
+        this.capacity = other.capacity;
+        this.prices = other.prices;
+        this.volumes = other.volumes;
+        this.cumulativeVolumes = other.cumulativeVolumes;
+        this.totalVolumes = other.totalVolumes;
+        this.nextSlot = other.nextSlot;
+        this.size = other.size;
+        this.recordedTurns = other.recordedTurns;
+        this.isShared = true;
+    }
+
+    /**
+     * Returns a copy of the history, which can record turns independently of this
+     * history.
+     * 
+     * @return the fork.
+     */
+    public MarketHistory fork() {
+        this.isShared = true;
+        return new MarketHistory(this);
+    }
+
+    private void unshare() {
+        if (this.isShared) {
+            this.prices = this.prices.clone();
+            this.volumes = this.volumes.clone();
+            this.cumulativeVolumes = this.cumulativeVolumes.clone();
+            this.totalVolumes = this.totalVolumes.clone();
+            this.isShared = false;
+        }
+    }
+
+    /**
+     * Records the prices and sold amounts of a finished turn.
+     * 
+     * @param turnPrices     The prices during the turn.
+     * @param soldVegetables The sold amount of every vegetable during the turn,
+     *                       indexed by the ordinal of the vegetable type.
+     */
+    public void record(final PriceSnapshot turnPrices, final int[] soldVegetables) {
+        this.unshare();
+        final int offset = this.nextSlot * TYPE_COUNT;
+        for (final VegetableType vegetable : VEGETABLE_TYPES) {
+            final int ordinal = vegetable.ordinal();
+            this.totalVolumes[ordinal] += soldVegetables[ordinal];
+            this.prices[offset + ordinal] = turnPrices.getPrice(vegetable);
+            this.volumes[offset + ordinal] = soldVegetables[ordinal];
+            this.cumulativeVolumes[offset + ordinal] = this.totalVolumes[ordinal];
+        }
+
+        this.nextSlot = (this.nextSlot + 1) % this.capacity;
+        this.size = Math.min(this.size + 1, this.capacity);
+        this.recordedTurns++;
+    }
+
+    /**
+     * Returns the number of turns currently held by the history.
+     * 
+     * @return the number of remembered turns.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the maximum number of turns the history can hold.
+     * 
+     * @return the capacity of the history.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of all turns recorded so far, including the ones which
+     * have already been overwritten. This is the number of the latest turn.
+     * 
+     * @return the number of recorded turns.
+     */
+    public int getRecordedTurns() {
+        return this.recordedTurns;
+    }
+
+    private int offsetOf(final int turnsAgo) {
+        Objects.checkIndex(turnsAgo, this.size);
+        return ((this.nextSlot - 1 - turnsAgo + this.capacity) % this.capacity) * TYPE_COUNT;
+    }
+
+    /**
+     * Returns the price of a vegetable in a past turn.
+     * 
+     * @param turnsAgo  The number of turns before the latest turn, 0 being the
+     *                  latest turn.
+     * @param vegetable The type of vegetable.
+     * @return the price of the vegetable in that turn.
+     */
+    public int getPrice(final int turnsAgo, final VegetableType vegetable) {
+        return this.prices[this.offsetOf(turnsAgo) + vegetable.ordinal()];
+    }
+
+    /**
+     * Returns the sold amount of a vegetable in a past turn.
+     * 
+     * @param turnsAgo  The number of turns before the latest turn, 0 being the
+     *                  latest turn.
+     * @param vegetable The type of vegetable.
+     * @return the sold amount of the vegetable in that turn.
+     */
+    public int getVolume(final int turnsAgo, final VegetableType vegetable) {
+        return this.volumes[this.offsetOf(turnsAgo) + vegetable.ordinal()];
+    }
+
+    /**
+     * Copies the prices of a vegetable over the last turns into the given array,
+     * starting with the oldest turn.
+     * 
+     * @param vegetable   The type of vegetable.
+     * @param turns       The number of latest turns to copy.
+     * @param destination The array to copy the prices into.
+     * @return the number of copied prices, which is less than {@code turns} if
+     *         the history doesn't hold that many turns.
+     */
+    public int getPrices(final VegetableType vegetable, final int turns, final int[] destination) {
+        final int count = Math.min(Math.min(turns, this.size), destination.length);
+        for (int i = 0; i < count; i++) {
+            destination[i] = this.getPrice(count - 1 - i, vegetable);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the average sold amount of a vegetable per turn over the last turns.
+     * 
+     * @param vegetable The type of vegetable.
+     * @param turns     The number of latest turns to average over.
+     * @return the average sold amount, or 0 if no turn has been recorded.
+     */
+    public double getAverageVolume(final VegetableType vegetable, final int turns) {
+        final int count = Math.min(turns, this.size);
+        if (count <= 0) {
+            return 0;
+        }
+
+        final int ordinal = vegetable.ordinal();
+        final int oldestOffset = this.offsetOf(count - 1);
+        final long volumeBefore = this.cumulativeVolumes[oldestOffset + ordinal]
+                - this.volumes[oldestOffset + ordinal];
+        return (double) (this.totalVolumes[ordinal] - volumeBefore) / count;
+    }
+
+    /**
+     * Writes the snapshot of the history, which can be read by
+     * {@link #MarketHistory(ByteBuffer)}. Only the remembered turns are written,
+     * starting with the oldest one.
+     * 
+     * @param buffer The buffer to write to.
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        buffer.putInt(this.capacity);
+        buffer.putInt(this.recordedTurns);
+        buffer.putInt(this.size);
+        for (final long totalVolume : this.totalVolumes) {
+            buffer.putLong(totalVolume);
+        }
+
+        for (int turnsAgo = this.size - 1; turnsAgo >= 0; turnsAgo--) {
+            final int offset = this.offsetOf(turnsAgo);
+            for (int i = 0; i < TYPE_COUNT; i++) {
+                buffer.putInt(this.prices[offset + i]);
+                buffer.putInt(this.volumes[offset + i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the prices and sold amounts of every remembered turn, followed by the
+     * average sold amounts over these turns.
+     * 
+     * @return the string representation of the history.
+     */
+    @Override
+    public String toString() {
+        if (this.size == 0) {
+            return "The market has no history yet.";
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        for (int turnsAgo = this.size - 1; turnsAgo >= 0; turnsAgo--) {
+            sb.append("Turn ").append(this.recordedTurns - turnsAgo).append(':');
+            String separator = " ";
+            for (final VegetableType vegetable : GeneralConfig.MARKET_VEGETABLES) {
+                sb.append(separator);
+                separator = ", ";
+                sb.append(String.format("%s %d (%d sold)", vegetable.getPlural(),
+                        this.getPrice(turnsAgo, vegetable), this.getVolume(turnsAgo, vegetable)));
+            }
+            sb.append(System.lineSeparator());
+        }
+
+        sb.append("Average sold per turn:");
+        String separator = " ";
+        for (final VegetableType vegetable : GeneralConfig.MARKET_VEGETABLES) {
+            sb.append(separator);
+            separator = ", ";
+            sb.append(String.format(Locale.ROOT, "%s %.2f", vegetable.getPlural(),
+                    this.getAverageVolume(vegetable, this.size)));
+        }
+        return sb.toString();
+    }
+}
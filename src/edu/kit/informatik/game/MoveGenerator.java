@@ -0,0 +1,67 @@
+package edu.kit.informatik.game;
+
+import edu.kit.informatik.config.ErrorMessages;
+import edu.kit.informatik.game.board.LocationSet;
+import edu.kit.informatik.game.board.TileStack;
+import edu.kit.informatik.game.player.Player;
+import edu.kit.informatik.game.type.MoveType;
+import edu.kit.informatik.game.type.VegetableType;
+
+/**
+ * Generates the moves a player can take in queens farming. Moves are checked
+ * directly against the state of the game instead of trying them out, and land
+ * is only offered at the placable spaces kept by the board, so the cost of
+ * generating the moves grows with their number.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public final class MoveGenerator {
+
+    private static final VegetableType[] VEGETABLES = VegetableType.values();
+
+    private MoveGenerator() {
+        throw new AssertionError(ErrorMessages.UTILITY_CLASS_INSTANTIATION);
+    }
+
+    /**
+     * Appends every move the player can take in the current turn.
+     * 
+     * @param moves     The list to append the moves to.
+     * @param player    The player whose turn it is.
+     * @param market    The market of the game.
+     * @param tileStack The tile stack of the game.
+     * @see QueensFarming#generateMoves(MoveList)
+     */
+    public static void generateMoves(final MoveList moves, final Player player, final Market market,
+            final TileStack tileStack) {
+        final int gold = player.getGold();
+
+        moves.add(MoveType.END_TURN, 0, 0, null, 0);
+        moves.add(MoveType.SELL_ALL, 0, 0, null, 0);
+        for (final VegetableType vegetable : VEGETABLES) {
+            final int count = player.getBarn().getVegetableCount(vegetable);
+            if (count > 0) {
+                moves.add(MoveType.SELL, 0, 0, vegetable, count);
+            }
+        }
+        for (final VegetableType vegetable : VEGETABLES) {
+            if (market.getPrice(vegetable) <= gold) {
+                moves.add(MoveType.BUY_VEGETABLE, 0, 0, vegetable, 0);
+            }
+        }
+
+        if (!tileStack.isEmpty()) {
+            final LocationSet placableSpaces = player.getBoard().getPlacableSpaces();
+            for (int i = 0; i < placableSpaces.size(); i++) {
+                final int xCoordinate = placableSpaces.getXCoordinate(i);
+                final int yCoordinate = placableSpaces.getYCoordinate(i);
+                if (tileStack.calculatePrice(xCoordinate, yCoordinate) <= gold) {
+                    moves.add(MoveType.BUY_LAND, xCoordinate, yCoordinate, null, 0);
+                }
+            }
+        }
+
+        player.getBoard().generateTileMoves(moves, player.getBarn());
+    }
+}
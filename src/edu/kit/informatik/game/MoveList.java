@@ -0,0 +1,138 @@
+package edu.kit.informatik.game;
+
+import java.util.Arrays;
+
+import edu.kit.informatik.game.type.MoveType;
+import edu.kit.informatik.game.type.VegetableType;
+
+/**
+ * A reusable list of the moves a player can take, filled by
+ * {@link QueensFarming#generateMoves(MoveList)}. The moves are stored in
+ * parallel arrays, so generating moves into a list of sufficient capacity
+ * doesn't allocate anything.
+ * Depending on its type, a move has a location, a vegetable and an amount;
+ * the other values are {@code 0} or {@code null}.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class MoveList {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private MoveType[] types;
+    private int[] xCoordinates;
+    private int[] yCoordinates;
+    private VegetableType[] vegetables;
+    private int[] amounts;
+    private int size;
+
+    /**
+     * Instantiates a new, empty {@link MoveList}.
+     */
+    public MoveList() {
+        this.types = new MoveType[INITIAL_CAPACITY];
+        this.xCoordinates = new int[INITIAL_CAPACITY];
+        this.yCoordinates = new int[INITIAL_CAPACITY];
+        this.vegetables = new VegetableType[INITIAL_CAPACITY];
+        this.amounts = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Removes all moves from the list.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Appends a move to the list.
+     * 
+     * @param type        The type of the move.
+     * @param xCoordinate The x-coordinate of the location of the move.
+     * @param yCoordinate The y-coordinate of the location of the move.
+     * @param vegetable   The vegetable of the move.
+     * @param amount      The amount of vegetables of the move.
+     */
+    public void add(final MoveType type, final int xCoordinate, final int yCoordinate,
+            final VegetableType vegetable, final int amount) {
+        if (this.size == this.types.length) {
+            final int capacity = 2 * this.size;
+            this.types = Arrays.copyOf(this.types, capacity);
+            this.xCoordinates = Arrays.copyOf(this.xCoordinates, capacity);
+            this.yCoordinates = Arrays.copyOf(this.yCoordinates, capacity);
+            this.vegetables = Arrays.copyOf(this.vegetables, capacity);
+            this.amounts = Arrays.copyOf(this.amounts, capacity);
+        }
+
+        this.types[this.size] = type;
+        this.xCoordinates[this.size] = xCoordinate;
+        this.yCoordinates[this.size] = yCoordinate;
+        this.vegetables[this.size] = vegetable;
+        this.amounts[this.size] = amount;
+        this.size++;
+    }
+
+    /**
+     * Returns the amount of moves in the list.
+     * 
+     * @return the amount of moves.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the type of the move with the given index.
+     * 
+     * @param index The index of the move.
+     * @return the type of the move.
+     */
+    public MoveType getType(final int index) {
+        return this.types[index];
+    }
+
+    /**
+     * Returns the x-coordinate of the location of the move with the given index,
+     * which is set for buying land, harvesting and planting.
+     * 
+     * @param index The index of the move.
+     * @return the x-coordinate.
+     */
+    public int getXCoordinate(final int index) {
+        return this.xCoordinates[index];
+    }
+
+    /**
+     * Returns the y-coordinate of the location of the move with the given index,
+     * which is set for buying land, harvesting and planting.
+     * 
+     * @param index The index of the move.
+     * @return the y-coordinate.
+     */
+    public int getYCoordinate(final int index) {
+        return this.yCoordinates[index];
+    }
+
+    /**
+     * Returns the vegetable of the move with the given index, which is set for
+     * selling, buying, harvesting and planting.
+     * 
+     * @param index The index of the move.
+     * @return the vegetable.
+     */
+    public VegetableType getVegetable(final int index) {
+        return this.vegetables[index];
+    }
+
+    /**
+     * Returns the amount of vegetables of the move with the given index, which is
+     * set for selling and harvesting.
+     * 
+     * @param index The index of the move.
+     * @return the amount of vegetables.
+     */
+    public int getAmount(final int index) {
+        return this.amounts[index];
+    }
+}
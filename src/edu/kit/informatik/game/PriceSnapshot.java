@@ -0,0 +1,58 @@
+package edu.kit.informatik.game;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import edu.kit.informatik.config.GeneralConfig;
+import edu.kit.informatik.game.type.VegetableType;
+import edu.kit.informatik.util.MapUtil;
+
+/**
+ * Represents the immutable prices of all vegetables at the market during one
+ * turn.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public final class PriceSnapshot {
+
+    private final int[] prices;
+    private final String representation;
+
+    /**
+     * Instantiates a new {@link PriceSnapshot}.
+     * 
+     * @param prices The price of every vegetable, indexed by the ordinal of the
+     *               vegetable type.
+     */
+    public PriceSnapshot(final int[] prices) {
+        this.prices = prices.clone();
+
+        // built right away, so shared snapshots are never written to
+        final Map<VegetableType, Integer> data = new LinkedHashMap<>();
+        for (final VegetableType vegetable : GeneralConfig.MARKET_VEGETABLES) {
+            data.put(vegetable, this.getPrice(vegetable));
+        }
+        this.representation = MapUtil.formatToTable(data);
+    }
+
+    /**
+     * Returns the price of a given vegetable.
+     * 
+     * @param vegetable The type of vegetable to get the price from.
+     * @return The price of the vegetable.
+     */
+    public int getPrice(final VegetableType vegetable) {
+        return this.prices[vegetable.ordinal()];
+    }
+
+    /**
+     * Returns the market table of the prices, which is built with the snapshot.
+     * 
+     * @return the string representation of the prices.
+     */
+    @Override
+    public String toString() {
+        return this.representation;
+    }
+}
@@ -1,5 +1,7 @@
 package edu.kit.informatik.game;
 
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -10,6 +12,7 @@ import edu.kit.informatik.game.player.Player;
 import edu.kit.informatik.game.player.PlayerList;
 import edu.kit.informatik.game.type.PlantableTileType;
 import edu.kit.informatik.game.type.VegetableType;
+import edu.kit.informatik.util.ByteBufferUtil;
 
 /**
  * Represents the game "queens farming".
@@ -20,8 +23,10 @@ import edu.kit.informatik.game.type.VegetableType;
 public class QueensFarming {
 
     private static final int MAX_ACTION_COUNT = 2;
+    private static final VegetableType[] VEGETABLE_TYPES = VegetableType.values();
 
     private boolean isActive;
+    private boolean isQuiet;
     private int currentTurn;
     private int remainingActions;
 
@@ -48,6 +53,47 @@ public class QueensFarming {
         this.playerList = new PlayerList(playerNames, goldAtStart);
     }
 
+    /**
+     * Instantiates a {@link QueensFarming} from a snapshot.
+     * 
+     * @param buffer The buffer positioned at the snapshot of the game.
+     * @see #writeTo(ByteBuffer)
+     */
+    public QueensFarming(final ByteBuffer buffer) {
+        this.isActive = ByteBufferUtil.getBoolean(buffer);
+        this.currentTurn = buffer.getInt();
+        this.remainingActions = buffer.getInt();
+
+        this.goldToWin = buffer.getInt();
+        this.market = new Market(buffer);
+        this.tileStack = new TileStack(buffer);
+        this.playerList = new PlayerList(buffer);
+    }
+
+    private QueensFarming(final QueensFarming other) {
+        this.isActive = other.isActive;
+        this.isQuiet = other.isQuiet;
+        this.currentTurn = other.currentTurn;
+        this.remainingActions = other.remainingActions;
+
+        this.goldToWin = other.goldToWin;
+        this.market = other.market.fork();
+        this.tileStack = other.tileStack.fork();
+        this.playerList = other.playerList.fork();
+    }
+
+    /**
+     * Returns a deep copy of the game, which can be played independently of this
+     * game, e.g. to try out moves. Forking neither formats nor parses anything,
+     * and the boards of the players share their tiles until they change, so a fork
+     * is cheap. The fork may be played on another thread than this game.
+     * 
+     * @return the fork.
+     */
+    public QueensFarming fork() {
+        return new QueensFarming(this);
+    }
+
     private Player getCurrentPlayer() {
         return this.playerList.getCurrentPlayer(currentTurn);
     }
@@ -61,6 +107,17 @@ public class QueensFarming {
         return this.isActive;
     }
 
+    /**
+     * Sets whether the game is quiet. A quiet game changes its state as usual, but
+     * the actions return {@code null} instead of formatting their messages, which
+     * is used to replay games quickly.
+     * 
+     * @param isQuiet Whether the game should be quiet.
+     */
+    public void setQuiet(final boolean isQuiet) {
+        this.isQuiet = isQuiet;
+    }
+
     /**
      * Returns whether or not the current turn is running.
      * 
@@ -78,8 +135,10 @@ public class QueensFarming {
     public String startNextTurn() {
         StringBuilder sb = new StringBuilder();
 
-        // update prices in market
-        this.market.startNextTurn();
+        // update prices in market, unless the game is just starting
+        if (this.currentTurn >= 0) {
+            this.market.startNextTurn();
+        }
 
         // reset values for next turn
         this.currentTurn++;
@@ -97,10 +156,13 @@ public class QueensFarming {
         }
         this.remainingActions = MAX_ACTION_COUNT;
 
-        sb.append(System.lineSeparator());
-        sb.append(String.format("It is %s's turn!", this.getCurrentPlayer().toString()));
-
         String playerInformation = this.getCurrentPlayer().startNextTurn();
+        if (this.isQuiet) {
+            return null;
+        }
+
+        sb.append(System.lineSeparator());
+        sb.append(this.showTurn());
         if (playerInformation != null) {
             sb.append(System.lineSeparator());
             sb.append(playerInformation);
@@ -109,6 +171,15 @@ public class QueensFarming {
         return sb.toString();
     }
 
+    /**
+     * Returns the header of the current turn, which names the current player.
+     * 
+     * @return the turn header.
+     */
+    public String showTurn() {
+        return String.format("It is %s's turn!", this.getCurrentPlayer().toString());
+    }
+
     /**
      * Handles the end of the game.
      * 
@@ -125,6 +196,16 @@ public class QueensFarming {
         return sb.toString();
     }
 
+    /**
+     * Returns the player(s) that won the game.
+     * 
+     * @return a list of all players that won.
+     * @see PlayerList#getWinners(int)
+     */
+    public List<Player> getWinners() {
+        return this.playerList.getWinners(this.goldToWin);
+    }
+
     /**
      * Ends the turn of the current player.
      * 
@@ -164,6 +245,26 @@ public class QueensFarming {
         return this.market.toString();
     }
 
+    /**
+     * Returns the string representation of the market history.
+     * 
+     * @return The market history string representation.
+     * @see MarketHistory#toString()
+     */
+    public String showMarketHistory() {
+        return this.market.getHistory().toString();
+    }
+
+    /**
+     * Returns the standings of all players, ordered by their gold.
+     * 
+     * @return The standings string representation.
+     * @see PlayerList#toLeaderboardString()
+     */
+    public String showLeaderboard() {
+        return this.playerList.toLeaderboardString();
+    }
+
     /**
      * Sells all vegetables of the current player, add the gold to the player
      * balance.
@@ -190,31 +291,28 @@ public class QueensFarming {
      *                       they wants to sell.
      */
     public String sell(Map<VegetableType, Integer> vegetablesToSell) throws GameException {
-        Map<VegetableType, Integer> playersVegetables = this.getCurrentPlayer().getVegetables();
-
-        // check if player owns all the vegetables they want to sell
+        final int[] vegetableCounts = new int[VEGETABLE_TYPES.length];
         for (Entry<VegetableType, Integer> entry : vegetablesToSell.entrySet()) {
-            if (entry.getValue() > playersVegetables.get(entry.getKey())) {
-                throw new GameException(ErrorMessages.VEGETABLE_NOT_OWNED);
-            }
+            vegetableCounts[entry.getKey().ordinal()] = entry.getValue();
         }
+        return this.sell(vegetableCounts);
+    }
 
-        // sell all vegetables from list one by one
-        int totalPrice = 0;
-        int soldCount = 0;
-        for (Entry<VegetableType, Integer> entry : vegetablesToSell.entrySet()) {
-            VegetableType vegetable = entry.getKey();
+    private String sell(final int[] vegetableCounts) throws GameException {
+        // removes nothing if the player doesn't own all the vegetables they want to sell
+        this.getCurrentPlayer().sell(vegetableCounts);
 
-            int vegetableCount = vegetablesToSell.get(vegetable);
-            for (int i = 0; i < vegetableCount; i++) {
-                this.getCurrentPlayer().sell(vegetable);
-                totalPrice += this.market.sell(vegetable);
-                soldCount++;
-            }
+        final int totalPrice = this.market.sellBatch(vegetableCounts);
+        int soldCount = 0;
+        for (final int vegetableCount : vegetableCounts) {
+            soldCount += vegetableCount;
         }
         this.getCurrentPlayer().addGold(totalPrice);
 
         this.remainingActions -= 1;
+        if (this.isQuiet) {
+            return null;
+        }
         if (soldCount == 1) {
             return String.format("You have sold 1 vegetable for %d gold.", totalPrice);
         }
@@ -236,6 +334,9 @@ public class QueensFarming {
         this.getCurrentPlayer().addVegetable(vegetable, 1);
 
         this.remainingActions -= 1;
+        if (this.isQuiet) {
+            return null;
+        }
         return String.format("You have bought a %s for %d gold.", vegetable.getSingular(), price);
     }
 
@@ -267,6 +368,9 @@ public class QueensFarming {
         playerBoard.addTile(xCoordinate, yCoordinate, tileType);
 
         this.remainingActions -= 1;
+        if (this.isQuiet) {
+            return null;
+        }
         return String.format("You have bought a %s for %d gold.", tileType.getName(), price);
     }
 
@@ -286,6 +390,9 @@ public class QueensFarming {
                 amountToHarvest);
 
         this.remainingActions -= 1;
+        if (this.isQuiet) {
+            return null;
+        }
         if (amountToHarvest > 1) {
             return String.format("You have harvested %d %s.", amountToHarvest, harvestedVegetable.getPlural());
         }
@@ -310,6 +417,76 @@ public class QueensFarming {
         return null;
     }
 
+    /**
+     * Replaces the content of the list with every move the current player can
+     * take, so that playing any of them with {@link #play(MoveList, int)} succeeds.
+     * Selling is generated as selling all vegetables and as selling all of a
+     * single vegetable, instead of every combination of amounts. The list is
+     * empty if no turn is running.
+     * 
+     * @param moves The list to fill.
+     */
+    public void generateMoves(final MoveList moves) {
+        moves.clear();
+        if (this.isActive && this.isTurnRunning()) {
+            MoveGenerator.generateMoves(moves, this.getCurrentPlayer(), this.market, this.tileStack);
+        }
+    }
+
+    /**
+     * Plays a move generated by {@link #generateMoves(MoveList)}, like the
+     * corresponding command.
+     * 
+     * @param moves The list holding the move.
+     * @param index The index of the move in the list.
+     * @return the response of the move, like the one of the command.
+     * @throws GameException if the move isn't possible anymore or no turn is running.
+     */
+    public String play(final MoveList moves, final int index) throws GameException {
+        if (!this.isActive || !this.isTurnRunning()) {
+            throw new GameException(ErrorMessages.NO_TURN_RUNNING);
+        }
+        final int xCoordinate = moves.getXCoordinate(index);
+        final int yCoordinate = moves.getYCoordinate(index);
+        final VegetableType vegetable = moves.getVegetable(index);
+
+        switch (moves.getType(index)) {
+            case SELL_ALL:
+                return this.sellAll();
+            case SELL:
+                final int[] vegetableCounts = new int[VEGETABLE_TYPES.length];
+                vegetableCounts[vegetable.ordinal()] = moves.getAmount(index);
+                return this.sell(vegetableCounts);
+            case BUY_VEGETABLE:
+                return this.buyVegetable(vegetable);
+            case BUY_LAND:
+                return this.buyLand(xCoordinate, yCoordinate);
+            case HARVEST:
+                return this.harvest(xCoordinate, yCoordinate, moves.getAmount(index));
+            case PLANT:
+                return this.plant(xCoordinate, yCoordinate, vegetable);
+            default:
+                return this.endTurn();
+        }
+    }
+
+    /**
+     * Writes the snapshot of the whole game, which can be read by
+     * {@link #QueensFarming(ByteBuffer)}.
+     * 
+     * @param buffer The buffer to write to.
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        ByteBufferUtil.putBoolean(buffer, this.isActive);
+        buffer.putInt(this.currentTurn);
+        buffer.putInt(this.remainingActions);
+
+        buffer.putInt(this.goldToWin);
+        this.market.writeTo(buffer);
+        this.tileStack.writeTo(buffer);
+        this.playerList.writeTo(buffer);
+    }
+
     /**
      * Quits the game.
      */
@@ -1,12 +1,17 @@
 package edu.kit.informatik.game.board;
 
-import java.util.EnumMap;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Map;
 
 import edu.kit.informatik.config.BoardConfig;
+import edu.kit.informatik.config.ErrorMessages;
+import edu.kit.informatik.game.GameException;
 import edu.kit.informatik.game.type.VegetableType;
+import edu.kit.informatik.util.ByteBufferUtil;
 import edu.kit.informatik.util.Countdown;
 import edu.kit.informatik.util.MapUtil;
+import edu.kit.informatik.util.VegetableCountView;
 
 /**
  * Represents a barn from a player in queens farming
@@ -19,33 +24,82 @@ public class Barn {
     private static final int ROUNDS_UNTIL_ROTTEN = 6;
 
     private final Countdown countdown;
-    private final Map<VegetableType, Integer> vegetables;
+    private final int[] vegetables;
+    private final Map<VegetableType, Integer> vegetablesView;
+    private int totalVegetableCount;
+
+    // board representation, null if it has to be rebuilt
+    private char[][] charArray;
 
     /**
      * Instantiates a new {@link Barn}
      */
     public Barn() {
         this.countdown = new Countdown(ROUNDS_UNTIL_ROTTEN + 1, 0, true);
-        this.vegetables = new EnumMap<>(VegetableType.class);
+        this.vegetables = new int[VegetableType.values().length];
+        this.vegetablesView = new VegetableCountView(this.vegetables);
+
+        Arrays.fill(this.vegetables, 1);
+        this.totalVegetableCount = this.vegetables.length;
+    }
+
+    /**
+     * Instantiates a {@link Barn} from a snapshot.
+     * 
+     * @param buffer The buffer positioned at the snapshot of the barn.
+     * @see #writeTo(ByteBuffer)
+     */
+    public Barn(final ByteBuffer buffer) {
+        this.countdown = new Countdown(buffer.getInt(), 0, ByteBufferUtil.getBoolean(buffer));
+        this.vegetables = new int[VegetableType.values().length];
+        this.vegetablesView = new VegetableCountView(this.vegetables);
 
-        MapUtil.setVegetablesToValue(this.vegetables, 1);
+        for (int i = 0; i < this.vegetables.length; i++) {
+            this.vegetables[i] = buffer.getInt();
+            this.totalVegetableCount += this.vegetables[i];
+        }
+    }
+
+    private Barn(final Barn other) {
+        this.countdown = new Countdown(other.countdown.getValue(), 0, other.countdown.isActive());
+        this.vegetables = other.vegetables.clone();
+        this.vegetablesView = new VegetableCountView(this.vegetables);
+        this.totalVegetableCount = other.totalVegetableCount;
+        this.charArray = other.charArray;
+    }
+
+    /**
+     * Returns a deep copy of the barn, which can be changed independently of this
+     * barn.
+     * 
+     * @return the fork.
+     */
+    public Barn fork() {
+        return new Barn(this);
     }
 
     /**
-     * Returns a map with the amount of vegetables the player has
+     * Returns a read-only map with the amount of vegetables the player has, which
+     * reflects later changes of the barn.
      * 
      * @return vegetables
      */
     public Map<VegetableType, Integer> getVegetables() {
-        return this.vegetables;
+        return this.vegetablesView;
+    }
+
+    /**
+     * Returns the amount of a given vegetable in the barn.
+     * 
+     * @param vegetable The type of vegetable.
+     * @return the amount of the vegetable.
+     */
+    public int getVegetableCount(final VegetableType vegetable) {
+        return this.vegetables[vegetable.ordinal()];
     }
 
     private int getTotalVegetableCount() {
-        int count = 0;
-        for (Integer value : this.vegetables.values()) {
-            count += value;
-        }
-        return count;
+        return this.totalVegetableCount;
     }
 
     private void startCountdown() {
@@ -63,11 +117,57 @@ public class Barn {
      * @param vegetable Type of vegetable to be removed from the barn
      */
     public void removeVegetable(final VegetableType vegetable) {
-        int currentCount = this.vegetables.get(vegetable);
-        if (currentCount == 0) {
+        this.removeVegetables(vegetable, 1);
+    }
+
+    /**
+     * Removes up to the given amount of a vegetable from the barn. If the barn
+     * holds less, all of the vegetable is removed.
+     * 
+     * @param vegetable Type of vegetable to be removed from the barn
+     * @param amount    The amount of vegetables to remove
+     */
+    public void removeVegetables(final VegetableType vegetable, final int amount) {
+        final int removed = Math.min(amount, this.vegetables[vegetable.ordinal()]);
+        if (removed <= 0) {
             return;
         }
-        this.vegetables.put(vegetable, currentCount - 1);
+        this.vegetables[vegetable.ordinal()] -= removed;
+        this.totalVegetableCount -= removed;
+        this.charArray = null;
+
+        // stop countdown if barn is empty
+        if (this.getTotalVegetableCount() == 0) {
+            this.stopCountdown();
+        }
+    }
+
+    /**
+     * Removes the given amounts of all vegetables from the barn at once. Either all
+     * vegetables are removed or, if the barn doesn't hold enough of one of them,
+     * none.
+     * 
+     * @param amounts The amount of every vegetable to remove, indexed by the
+     *                ordinal of the vegetable type.
+     * @throws GameException when the barn doesn't hold enough of a vegetable.
+     */
+    public void removeVegetables(final int[] amounts) throws GameException {
+        int totalAmount = 0;
+        for (int i = 0; i < amounts.length; i++) {
+            if (amounts[i] > this.vegetables[i]) {
+                throw new GameException(ErrorMessages.VEGETABLE_NOT_OWNED);
+            }
+            totalAmount += amounts[i];
+        }
+        if (totalAmount == 0) {
+            return;
+        }
+
+        for (int i = 0; i < amounts.length; i++) {
+            this.vegetables[i] -= amounts[i];
+        }
+        this.totalVegetableCount -= totalAmount;
+        this.charArray = null;
 
         // stop countdown if barn is empty
         if (this.getTotalVegetableCount() == 0) {
@@ -81,11 +181,26 @@ public class Barn {
      * @param vegetable Type of vegetable to be added to the barn
      */
     public void addVegetable(final VegetableType vegetable) {
-        final int currentCount = this.vegetables.get(vegetable);
-        this.vegetables.put(vegetable, currentCount + 1);
+        this.addVegetables(vegetable, 1);
+    }
+
+    /**
+     * Adds the given amount of a vegetable to the barn
+     * 
+     * @param vegetable Type of vegetable to be added to the barn
+     * @param amount    The amount of vegetables to add
+     */
+    public void addVegetables(final VegetableType vegetable, final int amount) {
+        if (amount <= 0) {
+            return;
+        }
+        final boolean wasEmpty = this.getTotalVegetableCount() == 0;
+        this.vegetables[vegetable.ordinal()] += amount;
+        this.totalVegetableCount += amount;
+        this.charArray = null;
 
         // start countdown if barn was empty before
-        if (this.getTotalVegetableCount() == 1) {
+        if (wasEmpty) {
             this.startCountdown();
         }
     }
@@ -102,12 +217,14 @@ public class Barn {
             return null;
         }
 
+        this.charArray = null;
         if (!this.countdown.nextStep()) {
             return null;
         }
 
         this.stopCountdown();
-        MapUtil.setVegetablesToValue(this.vegetables, 0);
+        Arrays.fill(this.vegetables, 0);
+        this.totalVegetableCount = 0;
         return "The vegetables in your barn are spoiled.";
     }
 
@@ -118,16 +235,39 @@ public class Barn {
      * @return {@code true} if vegetable is in the barn, {@code false} if not
      */
     public boolean hasInBarn(VegetableType vegetable) {
-        return this.vegetables.get(vegetable) > 0;
+        return this.vegetables[vegetable.ordinal()] > 0;
+    }
+
+    /**
+     * Writes the snapshot of the barn, which can be read by
+     * {@link #Barn(ByteBuffer)}.
+     * 
+     * @param buffer The buffer to write to.
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        buffer.putInt(this.countdown.getValue());
+        ByteBufferUtil.putBoolean(buffer, this.countdown.isActive());
+        for (final int vegetableCount : this.vegetables) {
+            buffer.putInt(vegetableCount);
+        }
     }
 
     /**
-     * Returns the representation of the barn as an 2d-array which can be formatted
-     * with den BoardStringBuilder.
+     * Returns the representation of the barn as an 2d-array which can be rendered
+     * by the BoardRenderer.
+     * The representation is cached until the barn changes, so the returned array
+     * must not be modified.
      * 
      * @return board representation of the barn.
      */
     public char[][] toCharArray() {
+        if (this.charArray == null) {
+            this.charArray = this.buildCharArray();
+        }
+        return this.charArray;
+    }
+
+    private char[][] buildCharArray() {
         String middleRowRepresentation;
         if (this.getTotalVegetableCount() == 0) {
             middleRowRepresentation = String.format(BoardConfig.BARN_COUNTDOWN, BoardConfig.STAR);
@@ -167,7 +307,7 @@ public class Barn {
         }
         sb.append(System.lineSeparator());
 
-        Map<VegetableType, Integer> sortedMap = MapUtil.sortByInt(this.vegetables);
+        Map<VegetableType, Integer> sortedMap = MapUtil.sortByInt(this.vegetablesView);
         sb.append(MapUtil.formatToTable(sortedMap, gold));
         return sb.toString();
     }
@@ -1,36 +1,101 @@
 package edu.kit.informatik.game.board;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 
 import edu.kit.informatik.config.ErrorMessages;
 import edu.kit.informatik.game.GameException;
+import edu.kit.informatik.game.MoveList;
+import edu.kit.informatik.game.type.MoveType;
 import edu.kit.informatik.game.type.PlantableTileType;
 import edu.kit.informatik.game.type.VegetableType;
 
 /**
  * Represents a board from a player in queens farming
+ * A {@link #fork()} of the board shares all tiles until they change, so
+ * forking only copies a few fields.
  * 
  * @author uiljo
  * @version 1.0
  */
 public class Board {
 
-    private final Map<Location, PlantableTile> plantableTiles;
+    private final TileMap plantableTiles;
+    private final GrowthScheduler growthScheduler;
+    // unoccupied locations with a neighbor to the left, to the right or below
+    private final LocationSet placableSpaces;
+    private int currentTurn;
+
+    // bounding box of all tiles including the barn at (0, 0)
+    private int minXValue;
+    private int maxXValue;
+    private int maxYValue;
 
     /**
      * Instantiates a new {@link Board}
      */
     public Board() {
-        this.plantableTiles = new HashMap<>();
-        this.plantableTiles.put(new Location(-1, 0), new PlantableTile(PlantableTileType.GARDEN));
-        this.plantableTiles.put(new Location(1, 0), new PlantableTile(PlantableTileType.GARDEN));
-        this.plantableTiles.put(new Location(0, 1), new PlantableTile(PlantableTileType.FIELD));
+        this.plantableTiles = new TileMap();
+        this.growthScheduler = new GrowthScheduler();
+        this.placableSpaces = new LocationSet();
+        this.currentTurn = 0;
+        this.occupy(0, 0);
+        this.addTile(-1, 0, PlantableTileType.GARDEN);
+        this.addTile(1, 0, PlantableTileType.GARDEN);
+        this.addTile(0, 1, PlantableTileType.FIELD);
+    }
+
+    /**
+     * Instantiates a {@link Board} from a snapshot. The growth schedule is rebuilt
+     * from the growing tiles.
+     * 
+     * @param buffer The buffer positioned at the snapshot of the board.
+     * @see #writeTo(ByteBuffer)
+     */
+    public Board(final ByteBuffer buffer) {
+        this.plantableTiles = new TileMap();
+        this.growthScheduler = new GrowthScheduler();
+        this.placableSpaces = new LocationSet();
+        this.currentTurn = buffer.getInt();
+        this.occupy(0, 0);
+
+        final int tileCount = buffer.getInt();
+        for (int i = 0; i < tileCount; i++) {
+            final int xCoordinate = buffer.getInt();
+            final int yCoordinate = buffer.getInt();
+            final PlantableTile tile = new PlantableTile(buffer, this.plantableTiles.getOwner());
+            this.putTile(xCoordinate, yCoordinate, tile);
+            if (tile.isGrowing()) {
+                this.growthScheduler.schedule(tile.getGrowthTurn(), i);
+            }
+        }
+    }
+
+    private Board(final Board other) {
+        this.plantableTiles = other.plantableTiles.fork();
+        this.growthScheduler = other.growthScheduler.fork();
+        this.placableSpaces = other.placableSpaces.fork();
+        this.currentTurn = other.currentTurn;
+        this.minXValue = other.minXValue;
+        this.maxXValue = other.maxXValue;
+        this.maxYValue = other.maxYValue;
+    }
+
+    /**
+     * Returns a deep copy of the board, which can be changed independently of
+     * this board. The tiles are shared until they are changed on either board.
+     * 
+     * @return the fork.
+     */
+    public Board fork() {
+        return new Board(this);
     }
 
     /**
      * Handles a turn in the game and returns a message indicating the results of
      * the turn.
+     * Only the tiles scheduled to grow in this turn are visited.
      * 
      * @return a message indicating the results of the turn, or {@code null} if no
      *         vegetables have grown and no vegetables have spoiled.
@@ -38,9 +103,24 @@ public class Board {
     public String startNextTurn() {
         StringBuilder sb = new StringBuilder();
 
+        this.currentTurn++;
+
         int totalGrown = 0;
-        for (PlantableTile tile : this.plantableTiles.values()) {
-            totalGrown += tile.grow();
+        while (this.growthScheduler.hasDue(this.currentTurn)) {
+            final int scheduledTurn = this.growthScheduler.peekTurn();
+            final int tileIndex = this.growthScheduler.pollTileIndex();
+            final PlantableTile scheduledTile = this.plantableTiles.getTile(tileIndex);
+
+            // skip entries of tiles that have been harvested or replanted since
+            if (!scheduledTile.isGrowing() || scheduledTile.getGrowthTurn() != scheduledTurn) {
+                continue;
+            }
+
+            final PlantableTile tile = this.plantableTiles.getMutableTile(tileIndex);
+            totalGrown += tile.grow(this.currentTurn);
+            if (tile.isGrowing()) {
+                this.growthScheduler.schedule(tile.getGrowthTurn(), tileIndex);
+            }
         }
 
         if (totalGrown == 1) {
@@ -56,10 +136,6 @@ public class Board {
         return sb.toString();
     }
 
-    private PlantableTile getPlantableTile(final int xCoordinate, final int yCoordinate) {
-        return this.plantableTiles.get(new Location(xCoordinate, yCoordinate));
-    }
-
     /**
      * Plants a given vegetable on the given tile.
      * 
@@ -71,13 +147,15 @@ public class Board {
      */
     public void plant(final int xCoordinate, final int yCoordinate, final VegetableType vegetable)
             throws GameException {
-        final PlantableTile tile = this.getPlantableTile(xCoordinate, yCoordinate);
+        final int tileIndex = this.plantableTiles.indexOf(xCoordinate, yCoordinate);
 
-        if (tile == null) {
+        if (tileIndex < 0) {
             throw new GameException(ErrorMessages.LAND_NOT_OWNED);
         }
 
-        tile.plant(vegetable);
+        final PlantableTile tile = this.plantableTiles.getMutableTile(tileIndex);
+        tile.plant(vegetable, this.currentTurn);
+        this.growthScheduler.schedule(tile.getGrowthTurn(), tileIndex);
     }
 
     /**
@@ -95,26 +173,43 @@ public class Board {
      */
     public VegetableType harvest(final int xCoordinate, final int yCoordinate, final int amountToHarvest)
             throws GameException {
-        final PlantableTile tile = this.getPlantableTile(xCoordinate, yCoordinate);
+        final int tileIndex = this.plantableTiles.indexOf(xCoordinate, yCoordinate);
 
-        if (tile == null) {
+        if (tileIndex < 0) {
             throw new GameException(ErrorMessages.LAND_NOT_OWNED);
         }
 
-        return tile.harvest(amountToHarvest);
+        final PlantableTile tile = this.plantableTiles.getMutableTile(tileIndex);
+        final boolean wasGrowing = tile.isGrowing();
+        final VegetableType harvestedVegetable = tile.harvest(amountToHarvest, this.currentTurn);
+        if (!wasGrowing && tile.isGrowing()) {
+            this.growthScheduler.schedule(tile.getGrowthTurn(), tileIndex);
+        }
+        return harvestedVegetable;
     }
 
     private boolean isOccupied(final int xCoordinate, final int yCoordinate) {
         if (xCoordinate == 0 && yCoordinate == 0) { // location of barn
             return true;
         }
-        return this.getPlantableTile(xCoordinate, yCoordinate) != null;
+        return this.plantableTiles.contains(xCoordinate, yCoordinate);
     }
 
-    private boolean hasNeighbor(final int xCoordinate, final int yCoordinate) {
-        return this.isOccupied(xCoordinate, yCoordinate - 1)
-                || this.isOccupied(xCoordinate - 1, yCoordinate)
-                || this.isOccupied(xCoordinate + 1, yCoordinate);
+    /**
+     * Updates the placable spaces after a location has been occupied. Only the
+     * location itself and the locations it is a neighbor of can change.
+     */
+    private void occupy(final int xCoordinate, final int yCoordinate) {
+        this.placableSpaces.remove(xCoordinate, yCoordinate);
+        this.addPlacableSpace(xCoordinate, yCoordinate + 1);
+        this.addPlacableSpace(xCoordinate + 1, yCoordinate);
+        this.addPlacableSpace(xCoordinate - 1, yCoordinate);
+    }
+
+    private void addPlacableSpace(final int xCoordinate, final int yCoordinate) {
+        if (!this.isOccupied(xCoordinate, yCoordinate)) {
+            this.placableSpaces.add(xCoordinate, yCoordinate);
+        }
     }
 
     /**
@@ -127,7 +222,48 @@ public class Board {
      * @return {@code true} if the location is placable, {@code false} if not
      */
     public boolean isPlacableSpace(final int xCoordinate, final int yCoordinate) {
-        return !isOccupied(xCoordinate, yCoordinate) && hasNeighbor(xCoordinate, yCoordinate);
+        return this.placableSpaces.contains(xCoordinate, yCoordinate);
+    }
+
+    /**
+     * Returns all placable spaces of the board, which are kept up to date when
+     * tiles are added.
+     * The returned set must not be modified.
+     * 
+     * @return the placable spaces.
+     * @see #isPlacableSpace(int, int)
+     */
+    public LocationSet getPlacableSpaces() {
+        return this.placableSpaces;
+    }
+
+    /**
+     * Appends every possible harvest and plant move on the tiles of the board.
+     * Every amount up to the planted vegetables can be harvested, and an empty
+     * tile can be planted with every vegetable of the barn that grows on it.
+     * 
+     * @param moves The list to append the moves to.
+     * @param barn  The barn holding the vegetables to plant.
+     */
+    public void generateTileMoves(final MoveList moves, final Barn barn) {
+        for (int i = 0; i < this.plantableTiles.size(); i++) {
+            final PlantableTile tile = this.plantableTiles.getTile(i);
+            final int xCoordinate = this.plantableTiles.getXCoordinate(i);
+            final int yCoordinate = this.plantableTiles.getYCoordinate(i);
+            final int plantedCount = tile.getPlantedVegetableCount();
+
+            for (int amount = 1; amount <= plantedCount; amount++) {
+                moves.add(MoveType.HARVEST, xCoordinate, yCoordinate, tile.getPlantedVegetable(), amount);
+            }
+            if (plantedCount > 0) {
+                continue;
+            }
+            for (final VegetableType vegetable : tile.getTileType().getPlantableVegetables()) {
+                if (barn.hasInBarn(vegetable)) {
+                    moves.add(MoveType.PLANT, xCoordinate, yCoordinate, vegetable, 0);
+                }
+            }
+        }
     }
 
     /**
@@ -138,43 +274,77 @@ public class Board {
      * @param tileType    The type of plantable tile to add
      */
     public void addTile(final int xCoordinate, final int yCoordinate, final PlantableTileType tileType) {
-        this.plantableTiles.put(new Location(xCoordinate, yCoordinate), new PlantableTile(tileType));
+        this.putTile(xCoordinate, yCoordinate, new PlantableTile(tileType, this.plantableTiles.getOwner()));
     }
 
-    private int getMinXValue() {
-        int currentIndex = 0;
+    private void putTile(final int xCoordinate, final int yCoordinate, final PlantableTile tile) {
+        this.plantableTiles.put(xCoordinate, yCoordinate, tile);
+        this.occupy(xCoordinate, yCoordinate);
 
-        for (Location location : this.plantableTiles.keySet()) {
-            if (location.getXCoordinate() < currentIndex) {
-                currentIndex = location.getXCoordinate();
-            }
-        }
-
-        return currentIndex;
+        this.minXValue = Math.min(this.minXValue, xCoordinate);
+        this.maxXValue = Math.max(this.maxXValue, xCoordinate);
+        this.maxYValue = Math.max(this.maxYValue, yCoordinate);
     }
 
-    private int getMaxXValue() {
-        int currentIndex = 0;
-
-        for (Location location : this.plantableTiles.keySet()) {
-            if (location.getXCoordinate() > currentIndex) {
-                currentIndex = location.getXCoordinate();
-            }
-        }
+    /**
+     * Returns the smallest x-coordinate of all tiles on the board, including the
+     * barn.
+     * 
+     * @return the smallest x-coordinate.
+     */
+    public int getMinXValue() {
+        return this.minXValue;
+    }
 
-        return currentIndex;
+    /**
+     * Returns the largest x-coordinate of all tiles on the board, including the
+     * barn.
+     * 
+     * @return the largest x-coordinate.
+     */
+    public int getMaxXValue() {
+        return this.maxXValue;
     }
 
-    private int getMaxYValue() {
-        int currentIndex = 0;
+    /**
+     * Returns the largest y-coordinate of all tiles on the board, including the
+     * barn. The smallest y-coordinate is always the one of the barn.
+     * 
+     * @return the largest y-coordinate.
+     */
+    public int getMaxYValue() {
+        return this.maxYValue;
+    }
 
-        for (Location location : this.plantableTiles.keySet()) {
-            if (location.getYCoordinate() > currentIndex) {
-                currentIndex = location.getYCoordinate();
-            }
+    /**
+     * Writes the snapshot of the board, which can be read by
+     * {@link #Board(ByteBuffer)}. The tiles are written in the order they were
+     * added.
+     * 
+     * @param buffer The buffer to write to.
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        buffer.putInt(this.currentTurn);
+        buffer.putInt(this.plantableTiles.size());
+        for (int i = 0; i < this.plantableTiles.size(); i++) {
+            buffer.putInt(this.plantableTiles.getXCoordinate(i));
+            buffer.putInt(this.plantableTiles.getYCoordinate(i));
+            this.plantableTiles.getTile(i).writeTo(buffer);
         }
+    }
 
-        return currentIndex;
+    /**
+     * Writes the formatted representation of the board, including all plantable
+     * tiles and the barn, row by row into the given target.
+     * 
+     * @param barn The barn object of the player.
+     * @param out  The target of the representation.
+     * @throws IOException if writing to the target fails.
+     * @see BoardRenderer
+     */
+    public void render(Barn barn, Appendable out) throws IOException {
+        new BoardRenderer(this.plantableTiles, barn, this.currentTurn, this.minXValue, this.maxXValue,
+                this.maxYValue).render(out);
     }
 
     /**
@@ -185,24 +355,12 @@ public class Board {
      * @return a formatted string representation of the board.
      */
     public String toStringFormatted(Barn barn) {
-        BoardStringBuilder boardBuilder = new BoardStringBuilder(
-                this.getMaxXValue(),
-                this.getMinXValue(),
-                this.getMaxYValue());
-
-        // fill in the barn
-        boardBuilder.fillIn(barn.toCharArray(), new Location(0, 0));
-
-        // fill in all plantable tiles
-        for (final Map.Entry<Location, PlantableTile> entry : this.plantableTiles.entrySet()) {
-            final Location currentLocation = entry.getKey();
-            final PlantableTile currentTile = entry.getValue();
-
-            final char[][] tileCharArray = currentTile.toCharArray();
-            boardBuilder.fillIn(tileCharArray, currentLocation);
-
+        final StringBuilder sb = new StringBuilder();
+        try {
+            this.render(barn, sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-
-        return boardBuilder.toString();
+        return sb.toString();
     }
 }
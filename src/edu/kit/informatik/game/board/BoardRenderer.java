@@ -0,0 +1,115 @@
+package edu.kit.informatik.game.board;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * Renders the board representation row by row into an {@link Appendable}.
+ * Only the tiles of one row and one line of characters are held at a time, so
+ * the memory needed is proportional to the width of the board. Neighboring
+ * tiles share their border column.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class BoardRenderer {
+
+    private static final int TILE_WIDTH = 6;
+    private static final int TILE_HEIGHT = 3;
+
+    private final TileMap plantableTiles;
+    private final Barn barn;
+    private final int currentTurn;
+    private final int minXValue;
+    private final int maxYValue;
+    private final char[][][] rowTiles;
+    private final char[] line;
+    private final CharBuffer lineBuffer;
+
+    /**
+     * Instantiates a new {@link BoardRenderer} for the given tiles and bounding
+     * box.
+     * 
+     * @param plantableTiles The plantable tiles of the board.
+     * @param barn           The barn, located at (0, 0).
+     * @param currentTurn    The current turn of the board.
+     * @param minXValue      The smallest x-coordinate of all tiles.
+     * @param maxXValue      The largest x-coordinate of all tiles.
+     * @param maxYValue      The largest y-coordinate of all tiles.
+     */
+    public BoardRenderer(final TileMap plantableTiles, final Barn barn, final int currentTurn, final int minXValue,
+            final int maxXValue, final int maxYValue) {
+        this.plantableTiles = plantableTiles;
+        this.barn = barn;
+        this.currentTurn = currentTurn;
+        this.minXValue = minXValue;
+        this.maxYValue = maxYValue;
+
+        final int widthInTiles = maxXValue - minXValue + 1;
+        this.rowTiles = new char[widthInTiles][][];
+        this.line = new char[widthInTiles * TILE_WIDTH + 1];
+        this.lineBuffer = CharBuffer.wrap(this.line);
+    }
+
+    private char[][] getTile(final int xCoordinate, final int yCoordinate) {
+        if (xCoordinate == 0 && yCoordinate == 0) {
+            return this.barn.toCharArray();
+        }
+
+        final PlantableTile tile = this.plantableTiles.get(xCoordinate, yCoordinate);
+        return tile == null ? null : tile.toCharArray(this.currentTurn);
+    }
+
+    /**
+     * Writes the board representation from the top row to the bottom row. The
+     * lines are separated by line separators, the last line isn't terminated.
+     * 
+     * @param out The target of the representation.
+     * @throws IOException if writing to the target fails.
+     */
+    public void render(final Appendable out) throws IOException {
+        for (int yCoordinate = this.maxYValue; yCoordinate >= 0; yCoordinate--) {
+            for (int column = 0; column < this.rowTiles.length; column++) {
+                this.rowTiles[column] = this.getTile(this.minXValue + column, yCoordinate);
+            }
+
+            for (int tileRow = 0; tileRow < TILE_HEIGHT; tileRow++) {
+                this.fillLine(tileRow);
+                if (out instanceof Writer) {
+                    ((Writer) out).write(this.line);
+                } else {
+                    out.append(this.lineBuffer.clear());
+                }
+
+                if (yCoordinate != 0 || tileRow != TILE_HEIGHT - 1) {
+                    out.append(System.lineSeparator());
+                }
+            }
+        }
+    }
+
+    private void fillLine(final int tileRow) {
+        for (int column = 0; column < this.rowTiles.length; column++) {
+            final char[][] tile = this.rowTiles[column];
+            final int offset = column * TILE_WIDTH;
+
+            if (tile == null) {
+                for (int i = 1; i < TILE_WIDTH; i++) {
+                    this.line[offset + i] = ' ';
+                }
+                // keep the right border of the left neighbor
+                if (column == 0 || this.rowTiles[column - 1] == null) {
+                    this.line[offset] = ' ';
+                }
+            } else {
+                System.arraycopy(tile[tileRow], 0, this.line, offset, tile[tileRow].length);
+            }
+        }
+
+        final char[][] lastTile = this.rowTiles[this.rowTiles.length - 1];
+        if (lastTile == null) {
+            this.line[this.line.length - 1] = ' ';
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package edu.kit.informatik.game.board;
+
+import java.util.Arrays;
+
+/**
+ * Schedules the growth of the plantable tiles of a {@link Board} by the turn in
+ * which they grow next. The scheduler is a binary min-heap of primitive entries,
+ * each packing the turn and the index of the tile in its {@link TileMap}, so
+ * scheduling doesn't allocate once the heap is large enough.
+ * Entries are never removed when a tile stops growing or is rescheduled; the
+ * board has to skip entries that don't match the tile anymore.
+ * A {@link #fork()} shares the heap until either scheduler changes.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class GrowthScheduler {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long INDEX_MASK = 0xFFFFFFFFL;
+
+    private long[] heap;
+    private int size;
+    private boolean isShared;
+
+    /**
+     * Instantiates a new, empty {@link GrowthScheduler}.
+     */
+    public GrowthScheduler() {
+        this.heap = new long[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    private GrowthScheduler(final GrowthScheduler other) {
+        this.heap = other.heap;
+        this.size = other.size;
+        this.isShared = true;
+    }
+
+    /**
+     * Returns a scheduler with the same entries, which can be changed
+     * independently of this scheduler.
+     * 
+     * @return the fork.
+     */
+    public GrowthScheduler fork() {
+        this.isShared = true;
+        return new GrowthScheduler(this);
+    }
+
+    private void unshare() {
+        if (this.isShared) {
+            this.heap = this.heap.clone();
+            this.isShared = false;
+        }
+    }
+
+    /**
+     * Schedules the tile with the given index for the given turn.
+     * 
+     * @param turn      The turn in which the tile grows, not negative.
+     * @param tileIndex The index of the tile in the tile map.
+     */
+    public void schedule(final int turn, final int tileIndex) {
+        if (this.size == this.heap.length) {
+            this.heap = Arrays.copyOf(this.heap, this.size * 2);
+            this.isShared = false;
+        }
+        this.unshare();
+
+        // turns are never negative, so the packed entries sort by turn first
+        final long entry = ((long) turn << Integer.SIZE) | tileIndex;
+        int position = this.size++;
+        while (position > 0) {
+            final int parent = (position - 1) >>> 1;
+            if (this.heap[parent] <= entry) {
+                break;
+            }
+            this.heap[position] = this.heap[parent];
+            position = parent;
+        }
+        this.heap[position] = entry;
+    }
+
+    /**
+     * Checks whether a tile is scheduled for the given turn or an earlier one.
+     * 
+     * @param turn The current turn.
+     * @return {@code true} if a tile is due, {@code false} otherwise.
+     */
+    public boolean hasDue(final int turn) {
+        return this.size > 0 && this.peekTurn() <= turn;
+    }
+
+    /**
+     * Returns the turn of the earliest entry. The scheduler must not be empty.
+     * 
+     * @return the earliest scheduled turn.
+     */
+    public int peekTurn() {
+        return (int) (this.heap[0] >>> Integer.SIZE);
+    }
+
+    /**
+     * Removes the earliest entry and returns its tile index. The scheduler must not
+     * be empty.
+     * 
+     * @return the index of the tile of the earliest entry.
+     */
+    public int pollTileIndex() {
+        this.unshare();
+        final int tileIndex = (int) (this.heap[0] & INDEX_MASK);
+
+        final long last = this.heap[--this.size];
+        int position = 0;
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= this.size) {
+                break;
+            }
+            if (child + 1 < this.size && this.heap[child + 1] < this.heap[child]) {
+                child++;
+            }
+            if (last <= this.heap[child]) {
+                break;
+            }
+            this.heap[position] = this.heap[child];
+            position = child;
+        }
+        this.heap[position] = last;
+
+        return tileIndex;
+    }
+
+    /**
+     * Returns the amount of scheduled entries, including outdated ones.
+     * 
+     * @return the amount of entries.
+     */
+    public int size() {
+        return this.size;
+    }
+}
@@ -0,0 +1,99 @@
+package edu.kit.informatik.game.board;
+
+/**
+ * A set of locations on a {@link Board}. Like the {@link TileMap}, the
+ * locations are kept in a {@link LocationTable}. The locations are stored
+ * densely, so they can be iterated by their index from {@code 0} to
+ * {@link #size()}; removing a location moves the last one into its place.
+ * A {@link #fork()} shares the arrays until either set changes.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class LocationSet {
+
+    private final LocationTable locations;
+
+    /**
+     * Instantiates a new, empty {@link LocationSet}.
+     */
+    public LocationSet() {
+        this.locations = new LocationTable();
+    }
+
+    private LocationSet(final LocationTable locations) {
+        this.locations = locations;
+    }
+
+    /**
+     * Returns a set with the same locations, which can be changed independently
+     * of this set.
+     * 
+     * @return the fork.
+     */
+    public LocationSet fork() {
+        return new LocationSet(this.locations.fork());
+    }
+
+    /**
+     * Checks whether the set contains the given location.
+     * 
+     * @param xCoordinate The x-coordinate of the location.
+     * @param yCoordinate The y-coordinate of the location.
+     * @return {@code true} if the location is in the set, {@code false} otherwise.
+     */
+    public boolean contains(final int xCoordinate, final int yCoordinate) {
+        return this.locations.indexOf(xCoordinate, yCoordinate) != LocationTable.NO_INDEX;
+    }
+
+    /**
+     * Adds a location to the set, unless it is already contained.
+     * 
+     * @param xCoordinate The x-coordinate of the location.
+     * @param yCoordinate The y-coordinate of the location.
+     */
+    public void add(final int xCoordinate, final int yCoordinate) {
+        this.locations.add(xCoordinate, yCoordinate);
+    }
+
+    /**
+     * Removes a location from the set, if it is contained.
+     * 
+     * @param xCoordinate The x-coordinate of the location.
+     * @param yCoordinate The y-coordinate of the location.
+     */
+    public void remove(final int xCoordinate, final int yCoordinate) {
+        this.locations.remove(xCoordinate, yCoordinate);
+    }
+
+    /**
+     * Returns the amount of locations in the set.
+     * 
+     * @return the amount of locations.
+     */
+    public int size() {
+        return this.locations.size();
+    }
+
+    /**
+     * Returns the x-coordinate of the location with the given index.
+     * 
+     * @param index The index of the location, between {@code 0} and
+     *              {@link #size()}.
+     * @return the x-coordinate.
+     */
+    public int getXCoordinate(final int index) {
+        return this.locations.getXCoordinate(index);
+    }
+
+    /**
+     * Returns the y-coordinate of the location with the given index.
+     * 
+     * @param index The index of the location, between {@code 0} and
+     *              {@link #size()}.
+     * @return the y-coordinate.
+     */
+    public int getYCoordinate(final int index) {
+        return this.locations.getYCoordinate(index);
+    }
+}
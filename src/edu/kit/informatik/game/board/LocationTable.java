@@ -0,0 +1,236 @@
+package edu.kit.informatik.game.board;
+
+import java.util.Arrays;
+
+/**
+ * Indexes the locations on a {@link Board}, the shared base of {@link TileMap}
+ * and {@link LocationSet}. The coordinates of a location are packed into a
+ * single {@code long} key and looked up in an open addressing hash table with
+ * linear probing, so a lookup neither creates a location object nor boxes a
+ * coordinate. The locations are stored densely, so they can be iterated by
+ * their index from {@code 0} to {@link #size()}, and values of the locations
+ * can be kept in arrays with the same indices.
+ * A {@link #fork()} shares the arrays until either table changes.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+final class LocationTable {
+
+    /**
+     * The index of a location that isn't in the table
+     */
+    static final int NO_INDEX = -1;
+
+    private static final int INITIAL_TABLE_SIZE = 16;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final long INT_MASK = 0xFFFFFFFFL;
+
+    private long[] keys;
+    private int size;
+
+    // index into keys for every slot, NO_INDEX if the slot is empty
+    private int[] table;
+    private int shift;
+
+    // the arrays may be shared with forks and have to be copied before they change
+    private boolean isShared;
+
+    /**
+     * Instantiates a new, empty {@link LocationTable}.
+     */
+    LocationTable() {
+        this.keys = new long[INITIAL_TABLE_SIZE / 2];
+        this.size = 0;
+        this.table = new int[INITIAL_TABLE_SIZE];
+        Arrays.fill(this.table, NO_INDEX);
+        this.shift = Long.SIZE - Integer.numberOfTrailingZeros(INITIAL_TABLE_SIZE);
+    }
+
+    private LocationTable(final LocationTable other) {
+        this.keys = other.keys;
+        this.size = other.size;
+        this.table = other.table;
+        this.shift = other.shift;
+        this.isShared = true;
+    }
+
+    /**
+     * Returns a table with the same locations, which can be changed independently
+     * of this table.
+     * 
+     * @return the fork.
+     */
+    LocationTable fork() {
+        this.isShared = true;
+        return new LocationTable(this);
+    }
+
+    private void unshare() {
+        if (this.isShared) {
+            this.keys = this.keys.clone();
+            this.table = this.table.clone();
+            this.isShared = false;
+        }
+    }
+
+    private static long pack(final int xCoordinate, final int yCoordinate) {
+        return ((long) xCoordinate << Integer.SIZE) | (yCoordinate & INT_MASK);
+    }
+
+    private int slotOf(final long key) {
+        return (int) ((key * GOLDEN_RATIO) >>> this.shift);
+    }
+
+    private int findSlot(final long key) {
+        final int mask = this.table.length - 1;
+        int slot = this.slotOf(key);
+        while (this.table[slot] != NO_INDEX && this.keys[this.table[slot]] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the index of the given location.
+     * 
+     * @param xCoordinate The x-coordinate of the location.
+     * @param yCoordinate The y-coordinate of the location.
+     * @return the index or {@link #NO_INDEX} if the location isn't in the table.
+     */
+    int indexOf(final int xCoordinate, final int yCoordinate) {
+        return this.table[this.findSlot(pack(xCoordinate, yCoordinate))];
+    }
+
+    /**
+     * Adds a location to the table, unless it is already contained. A new location
+     * gets the index {@link #size()} before it was added.
+     * 
+     * @param xCoordinate The x-coordinate of the location.
+     * @param yCoordinate The y-coordinate of the location.
+     * @return the index of the location.
+     */
+    int add(final int xCoordinate, final int yCoordinate) {
+        final long key = pack(xCoordinate, yCoordinate);
+        final int slot = this.findSlot(key);
+        if (this.table[slot] != NO_INDEX) {
+            return this.table[slot];
+        }
+
+        this.unshare();
+        if (this.size == this.keys.length) {
+            this.grow();
+            this.table[this.findSlot(key)] = this.size;
+        } else {
+            this.table[slot] = this.size;
+        }
+        this.keys[this.size] = key;
+        return this.size++;
+    }
+
+    private void grow() {
+        // the table is kept at most half full
+        final int newTableSize = this.table.length * 2;
+        this.keys = Arrays.copyOf(this.keys, newTableSize / 2);
+        this.table = new int[newTableSize];
+        Arrays.fill(this.table, NO_INDEX);
+        this.shift--;
+
+        for (int index = 0; index < this.size; index++) {
+            this.table[this.findSlot(this.keys[index])] = index;
+        }
+    }
+
+    /**
+     * Removes a location from the table, if it is contained. The last location
+     * moves into the index of the removed one.
+     * 
+     * @param xCoordinate The x-coordinate of the location.
+     * @param yCoordinate The y-coordinate of the location.
+     * @return the index the location had or {@link #NO_INDEX} if it wasn't in the
+     *         table.
+     */
+    int remove(final int xCoordinate, final int yCoordinate) {
+        final int slot = this.findSlot(pack(xCoordinate, yCoordinate));
+        final int index = this.table[slot];
+        if (index == NO_INDEX) {
+            return NO_INDEX;
+        }
+
+        this.unshare();
+        this.deleteSlot(slot);
+
+        // move the last location into the gap
+        final int lastIndex = this.size - 1;
+        if (index != lastIndex) {
+            final long lastKey = this.keys[lastIndex];
+            this.keys[index] = lastKey;
+            this.table[this.findSlot(lastKey)] = index;
+        }
+        this.size--;
+        return index;
+    }
+
+    /**
+     * Empties a slot and shifts the following entries of its probe sequence back,
+     * so that no lookup stops at the gap too early.
+     */
+    private void deleteSlot(final int deletedSlot) {
+        final int mask = this.table.length - 1;
+        int gap = deletedSlot;
+        int slot = (gap + 1) & mask;
+        while (this.table[slot] != NO_INDEX) {
+            final int home = this.slotOf(this.keys[this.table[slot]]);
+            // the entry may fill the gap if its home slot is not between the gap and its slot
+            final boolean canMove = gap <= slot
+                    ? home <= gap || home > slot
+                    : home <= gap && home > slot;
+            if (canMove) {
+                this.table[gap] = this.table[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        this.table[gap] = NO_INDEX;
+    }
+
+    /**
+     * Returns the amount of locations in the table.
+     * 
+     * @return the amount of locations.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the amount of locations the table can hold before it grows.
+     * 
+     * @return the capacity.
+     */
+    int capacity() {
+        return this.keys.length;
+    }
+
+    /**
+     * Returns the x-coordinate of the location with the given index.
+     * 
+     * @param index The index of the location, between {@code 0} and
+     *              {@link #size()}.
+     * @return the x-coordinate.
+     */
+    int getXCoordinate(final int index) {
+        return (int) (this.keys[index] >> Integer.SIZE);
+    }
+
+    /**
+     * Returns the y-coordinate of the location with the given index.
+     * 
+     * @param index The index of the location, between {@code 0} and
+     *              {@link #size()}.
+     * @return the y-coordinate.
+     */
+    int getYCoordinate(final int index) {
+        return (int) this.keys[index];
+    }
+}
@@ -1,61 +1,168 @@
 package edu.kit.informatik.game.board;
 
+import java.nio.ByteBuffer;
+
 import edu.kit.informatik.config.BoardConfig;
 import edu.kit.informatik.config.ErrorMessages;
 import edu.kit.informatik.game.GameException;
 import edu.kit.informatik.game.type.PlantableTileType;
 import edu.kit.informatik.game.type.VegetableType;
-import edu.kit.informatik.util.Countdown;
+import edu.kit.informatik.util.ByteBufferUtil;
 
 /**
  * Represents a plantable tile in queens farming.
+ * Instead of counting down every turn, a growing tile remembers the turn of its
+ * board in which it grows next. The {@link Board} schedules the tile for that
+ * turn, and the remaining countdown is derived from the current turn.
+ * A tile may be shared by the forks of a board, so it remembers the owner it
+ * may be changed by. Every other board has to change a {@link #copy(Object)}
+ * instead.
  * 
  * @author uiljo
  * @version 1.0
  */
 public class PlantableTile {
 
+    private static final int NO_COUNTDOWN = -1;
+
     private final PlantableTileType tileType;
     private VegetableType plantedVegetable;
     private int plantedVegetableCount;
-    private final Countdown growCountdown;
+    private boolean isGrowing;
+    private int growthTurn;
+    private Object owner;
+
+    // board representation, null if it has to be rebuilt; replaced as a whole, as
+    // shared tiles may be rendered by several threads
+    private Representation representation;
 
     /**
      * Instantiates a new {@link PlantableTile}.
      * 
      * @param tileType The type of the plantable tile.
+     * @param owner    The owner that may change the tile.
      */
-    public PlantableTile(final PlantableTileType tileType) {
-        this.growCountdown = new Countdown();
+    public PlantableTile(final PlantableTileType tileType, final Object owner) {
         this.tileType = tileType;
         this.plantedVegetableCount = 0;
+        this.isGrowing = false;
+        this.owner = owner;
+    }
+
+    /**
+     * Instantiates a {@link PlantableTile} from a snapshot.
+     * 
+     * @param buffer The buffer positioned at the snapshot of the tile.
+     * @param owner  The owner that may change the tile.
+     * @see #writeTo(ByteBuffer)
+     */
+    public PlantableTile(final ByteBuffer buffer, final Object owner) {
+        this.owner = owner;
+        this.tileType = PlantableTileType.values()[buffer.get()];
+        final int vegetableOrdinal = buffer.get();
+        this.plantedVegetable = vegetableOrdinal < 0 ? null : VegetableType.values()[vegetableOrdinal];
+        this.plantedVegetableCount = buffer.getInt();
+        this.isGrowing = ByteBufferUtil.getBoolean(buffer);
+        this.growthTurn = buffer.getInt();
     }
 
-    private void startCountdown() {
-        this.growCountdown.setValue(this.plantedVegetable.getTimeToGrow());
-        this.growCountdown.setMinValue(0);
-        this.growCountdown.setActive(true);
+    private PlantableTile(final PlantableTile other, final Object owner) {
+        this.tileType = other.tileType;
+        this.plantedVegetable = other.plantedVegetable;
+        this.plantedVegetableCount = other.plantedVegetableCount;
+        this.isGrowing = other.isGrowing;
+        this.growthTurn = other.growthTurn;
+        this.owner = owner;
+        this.representation = other.representation;
+    }
+
+    /**
+     * Returns a copy of the tile, which may be changed by the given owner.
+     * 
+     * @param newOwner The owner of the copy.
+     * @return the copy.
+     */
+    public PlantableTile copy(final Object newOwner) {
+        return new PlantableTile(this, newOwner);
+    }
+
+    /**
+     * Checks whether the tile may be changed by the given owner.
+     * 
+     * @param candidate The owner that wants to change the tile.
+     * @return {@code true} if the tile is owned by the candidate, {@code false}
+     *         if it has to be copied first.
+     */
+    public boolean isOwnedBy(final Object candidate) {
+        return this.owner == candidate;
+    }
+
+    private void startCountdown(final int currentTurn) {
+        this.growthTurn = currentTurn + this.plantedVegetable.getTimeToGrow();
+        this.isGrowing = true;
     }
 
     private void stopCountdown() {
-        this.growCountdown.setActive(false);
+        this.isGrowing = false;
     }
 
     /**
-     * Grows a planted vegetable on the tile us the countdown is active and returns
-     * the amount of newly grown vegetables.
+     * Returns the type of the tile.
      * 
-     * @return the amount of newly grown vegetables.
+     * @return the tile type.
      */
-    public int grow() {
-        if (!this.growCountdown.isActive()) {
-            return 0;
-        }
+    public PlantableTileType getTileType() {
+        return this.tileType;
+    }
 
-        if (!this.growCountdown.nextStep()) {
-            return 0;
-        }
-        this.growCountdown.setValue(this.plantedVegetable.getTimeToGrow());
+    /**
+     * Returns the planted vegetable, which is only meaningful while vegetables are
+     * planted.
+     * 
+     * @return the planted vegetable.
+     */
+    public VegetableType getPlantedVegetable() {
+        return this.plantedVegetable;
+    }
+
+    /**
+     * Returns the amount of planted vegetables.
+     * 
+     * @return the amount of planted vegetables.
+     */
+    public int getPlantedVegetableCount() {
+        return this.plantedVegetableCount;
+    }
+
+    /**
+     * Checks whether the planted vegetables are growing.
+     * 
+     * @return {@code true} if the vegetables are growing, {@code false} otherwise.
+     */
+    public boolean isGrowing() {
+        return this.isGrowing;
+    }
+
+    /**
+     * Returns the turn of the board in which the planted vegetables grow next.
+     * Only meaningful while the vegetables are growing.
+     * 
+     * @return the turn of the next growth.
+     */
+    public int getGrowthTurn() {
+        return this.growthTurn;
+    }
+
+    /**
+     * Grows the planted vegetables, which must be due in the given turn, and
+     * returns the amount of newly grown vegetables. Unless the tile is full
+     * afterwards, the next growth is due after the growing time of the vegetable.
+     * 
+     * @param currentTurn The current turn of the board.
+     * @return the amount of newly grown vegetables.
+     */
+    public int grow(final int currentTurn) {
+        this.startCountdown(currentTurn);
 
         int newVegetableCount = this.plantedVegetableCount * 2;
         if (newVegetableCount >= this.tileType.getMaxCapacity()) {
@@ -65,6 +172,7 @@ public class PlantableTile {
 
         final int newlyGrownVegetable = newVegetableCount - this.plantedVegetableCount;
         this.plantedVegetableCount = newVegetableCount;
+        this.representation = null;
         return newlyGrownVegetable;
     }
 
@@ -72,11 +180,12 @@ public class PlantableTile {
      * Plants a given vegetable on the tile if it isn't already planted and the
      * vegetable is plantable on the tile
      * 
-     * @param vegetable The type of vegetable to be planted.
+     * @param vegetable   The type of vegetable to be planted.
+     * @param currentTurn The current turn of the board.
      * @throws GameException when the tile has already been planted or the vegetable
      *                       can't be planted on the tile.
      */
-    public void plant(final VegetableType vegetable) throws GameException {
+    public void plant(final VegetableType vegetable, final int currentTurn) throws GameException {
         if (this.plantedVegetableCount > 0) {
             throw new GameException(ErrorMessages.ALREADY_PLANTED);
         }
@@ -87,7 +196,8 @@ public class PlantableTile {
 
         this.plantedVegetable = vegetable;
         this.plantedVegetableCount = 1;
-        this.startCountdown();
+        this.startCountdown(currentTurn);
+        this.representation = null;
     }
 
     /**
@@ -95,11 +205,12 @@ public class PlantableTile {
      * vegetable harvested.
      * 
      * @param amountToHarvest The amount of vegetable to be harvested.
+     * @param currentTurn     The current turn of the board.
      * @return The type of vegetable harvested.
      * @throws GameException when the amount to harvest is not valid (below 1 or
      *                       more then planted).
      */
-    public VegetableType harvest(final int amountToHarvest) throws GameException {
+    public VegetableType harvest(final int amountToHarvest, final int currentTurn) throws GameException {
         if (amountToHarvest < 1) {
             throw new GameException(ErrorMessages.INPUT_SMALLER_ONE);
         }
@@ -110,24 +221,51 @@ public class PlantableTile {
         this.plantedVegetableCount -= amountToHarvest;
         if (this.plantedVegetableCount == 0) {
             this.stopCountdown();
-        } else if (this.plantedVegetableCount > 0 && !this.growCountdown.isActive()) {
-            this.startCountdown();
+        } else if (this.plantedVegetableCount > 0 && !this.isGrowing) {
+            this.startCountdown(currentTurn);
         }
+        this.representation = null;
 
         return plantedVegetable;
     }
 
+    /**
+     * Writes the snapshot of the tile, which can be read by
+     * {@link #PlantableTile(ByteBuffer, Object)}.
+     * 
+     * @param buffer The buffer to write to.
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        buffer.put((byte) this.tileType.ordinal());
+        buffer.put((byte) (this.plantedVegetable == null ? -1 : this.plantedVegetable.ordinal()));
+        buffer.putInt(this.plantedVegetableCount);
+        ByteBufferUtil.putBoolean(buffer, this.isGrowing);
+        buffer.putInt(this.growthTurn);
+    }
+
     /**
      * Returns the representation of a plantable tile as an 2d-array which can be
-     * formatted with den BoardStringBuilder.
+     * rendered by the BoardRenderer.
+     * The representation is cached until the tile or its countdown changes, so the
+     * returned array must not be modified.
      * 
+     * @param currentTurn The current turn of the board.
      * @return board representation of a plantable tile.
      */
-    public char[][] toCharArray() {
+    public char[][] toCharArray(final int currentTurn) {
+        final int countdown = this.isGrowing ? this.growthTurn - currentTurn : NO_COUNTDOWN;
+        Representation cached = this.representation;
+        if (cached == null || cached.countdown != countdown) {
+            cached = new Representation(this.buildCharArray(countdown), countdown);
+            this.representation = cached;
+        }
+        return cached.charArray;
+    }
+
+    private char[][] buildCharArray(final int countdown) {
         String firstRowRepresentation;
-        if (this.growCountdown.isActive()) {
-            firstRowRepresentation = String.format(this.tileType.getBoardRepresentation(),
-                    this.growCountdown.getValue());
+        if (countdown != NO_COUNTDOWN) {
+            firstRowRepresentation = String.format(this.tileType.getBoardRepresentation(), countdown);
         } else {
             firstRowRepresentation = String.format(this.tileType.getBoardRepresentation(), BoardConfig.STAR);
         }
@@ -149,4 +287,17 @@ public class PlantableTile {
                 lastRowRepresentation.toCharArray(),
         };
     }
+
+    /**
+     * A cached board representation and the countdown it shows.
+     */
+    private static final class Representation {
+        private final char[][] charArray;
+        private final int countdown;
+
+        private Representation(final char[][] charArray, final int countdown) {
+            this.charArray = charArray;
+            this.countdown = countdown;
+        }
+    }
 }
@@ -0,0 +1,183 @@
+package edu.kit.informatik.game.board;
+
+import java.util.Arrays;
+
+/**
+ * Maps the locations on a {@link Board} to their {@link PlantableTile}. The
+ * locations are kept in a {@link LocationTable}, so a lookup neither creates a
+ * location object nor boxes a coordinate, and the tiles in an array with the
+ * same indices.
+ * The tiles are stored in the order they were added and can be iterated by
+ * their index from {@code 0} to {@link #size()}. Tiles can't be removed.
+ * A {@link #fork()} shares the arrays and the tiles of the map until either
+ * map changes. Tiles are only changed through {@link #getMutableTile(int)},
+ * which copies a tile owned by another map first, so unchanged tiles stay
+ * shared between all forks.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class TileMap {
+
+    private final LocationTable locations;
+    private PlantableTile[] tiles;
+
+    // the tiles may be shared with forks and have to be copied before they change
+    private boolean isShared;
+    private Object owner;
+
+    /**
+     * Instantiates a new, empty {@link TileMap}.
+     */
+    public TileMap() {
+        this.locations = new LocationTable();
+        this.tiles = new PlantableTile[this.locations.capacity()];
+        this.owner = new Object();
+    }
+
+    private TileMap(final LocationTable locations, final PlantableTile[] tiles) {
+        this.locations = locations;
+        this.tiles = tiles;
+        this.isShared = true;
+        this.owner = new Object();
+    }
+
+    /**
+     * Returns a map with the same tiles, which can be changed independently of
+     * this map. The arrays and tiles are shared until they are changed.
+     * 
+     * @return the fork.
+     */
+    public TileMap fork() {
+        // neither map may change the shared tiles anymore
+        this.isShared = true;
+        this.owner = new Object();
+        return new TileMap(this.locations.fork(), this.tiles);
+    }
+
+    /**
+     * Returns the owner of the tiles that this map may change. New tiles must be
+     * created with this owner.
+     * 
+     * @return the owner.
+     */
+    public Object getOwner() {
+        return this.owner;
+    }
+
+    private void unshare() {
+        if (this.isShared) {
+            this.tiles = this.tiles.clone();
+            this.isShared = false;
+        }
+    }
+
+    /**
+     * Returns the tile at the given location.
+     * 
+     * @param xCoordinate The x-coordinate of the location.
+     * @param yCoordinate The y-coordinate of the location.
+     * @return the tile or {@code null} if there is no tile at the location.
+     */
+    public PlantableTile get(final int xCoordinate, final int yCoordinate) {
+        final int index = this.locations.indexOf(xCoordinate, yCoordinate);
+        return index == LocationTable.NO_INDEX ? null : this.tiles[index];
+    }
+
+    /**
+     * Returns the index of the tile at the given location.
+     * 
+     * @param xCoordinate The x-coordinate of the location.
+     * @param yCoordinate The y-coordinate of the location.
+     * @return the index of the tile or {@code -1} if there is no tile at the
+     *         location.
+     */
+    public int indexOf(final int xCoordinate, final int yCoordinate) {
+        return this.locations.indexOf(xCoordinate, yCoordinate);
+    }
+
+    /**
+     * Checks whether there is a tile at the given location.
+     * 
+     * @param xCoordinate The x-coordinate of the location.
+     * @param yCoordinate The y-coordinate of the location.
+     * @return {@code true} if there is a tile, {@code false} otherwise.
+     */
+    public boolean contains(final int xCoordinate, final int yCoordinate) {
+        return this.locations.indexOf(xCoordinate, yCoordinate) != LocationTable.NO_INDEX;
+    }
+
+    /**
+     * Puts a tile at the given location, replacing the tile that was there before.
+     * 
+     * @param xCoordinate The x-coordinate of the location.
+     * @param yCoordinate The y-coordinate of the location.
+     * @param tile        The tile to put at the location.
+     */
+    public void put(final int xCoordinate, final int yCoordinate, final PlantableTile tile) {
+        this.unshare();
+        final int index = this.locations.add(xCoordinate, yCoordinate);
+        if (index == this.tiles.length) {
+            this.tiles = Arrays.copyOf(this.tiles, this.locations.capacity());
+        }
+        this.tiles[index] = tile;
+    }
+
+    /**
+     * Returns the amount of tiles in the map.
+     * 
+     * @return the amount of tiles.
+     */
+    public int size() {
+        return this.locations.size();
+    }
+
+    /**
+     * Returns the x-coordinate of the tile with the given index.
+     * 
+     * @param index The index of the tile, in the order the tiles were added.
+     * @return the x-coordinate.
+     */
+    public int getXCoordinate(final int index) {
+        return this.locations.getXCoordinate(index);
+    }
+
+    /**
+     * Returns the y-coordinate of the tile with the given index.
+     * 
+     * @param index The index of the tile, in the order the tiles were added.
+     * @return the y-coordinate.
+     */
+    public int getYCoordinate(final int index) {
+        return this.locations.getYCoordinate(index);
+    }
+
+    /**
+     * Returns the tile with the given index.
+     * 
+     * @param index The index of the tile, in the order the tiles were added.
+     * @return the tile.
+     */
+    public PlantableTile getTile(final int index) {
+        return this.tiles[index];
+    }
+
+    /**
+     * Returns the tile with the given index for a change. A tile shared with a fork
+     * is replaced by a copy first.
+     * 
+     * @param index The index of the tile, in the order the tiles were added.
+     * @return the tile, which may be changed.
+     */
+    public PlantableTile getMutableTile(final int index) {
+        final PlantableTile tile = this.tiles[index];
+        if (tile.isOwnedBy(this.owner)) {
+            return tile;
+        }
+
+        this.unshare();
+        final PlantableTile copy = tile.copy(this.owner);
+        this.tiles[index] = copy;
+        return copy;
+    }
+}
@@ -1,8 +1,10 @@
 package edu.kit.informatik.game.board;
 
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
 import java.util.Collections;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
 
 import edu.kit.informatik.game.type.PlantableTileType;
@@ -11,12 +13,24 @@ import edu.kit.informatik.game.type.PlantableTileType;
  * Represents a stack of plantable tiles in queens farming. The stack contains a
  * number of different tiles determined by the amount of players in the game,
  * which can be drawn randomly.
+ * The shuffled tiles are stored as the ordinals of their types, and drawing a
+ * tile only moves a cursor. The most recently used shuffled decks are cached by
+ * the player count and the seed and shared between stacks, as a deck is never
+ * modified. The cache is small, so games with arbitrary seeds can't fill the
+ * memory, while batch runs reusing a few seeds still don't reshuffle.
  * 
  * @author uiljo
  * @version 1.0
  */
 public class TileStack {
-    private final List<PlantableTileType> stack;
+
+    private static final int MAX_CACHED_DECKS = 64;
+    private static final Map<DeckKey, byte[]> SHUFFLED_DECKS = Collections.synchronizedMap(new DeckCache());
+    private static final PlantableTileType[] TILE_TYPES = PlantableTileType.values();
+
+    // ordinals of the tile types in the order they are drawn
+    private final byte[] deck;
+    private int cursor;
 
     /**
      * Instantiates a new {@link TileStack}.
@@ -25,35 +39,89 @@ public class TileStack {
      * @param seed        The random seed for shuffling tile stack.
      */
     public TileStack(final int playerCount, final long seed) {
-        stack = new ArrayList<>();
+        this.deck = shuffledDeck(playerCount, seed);
+        this.cursor = 0;
+    }
 
-        // add 2n garden tiles
-        for (int i = 0; i < 2 * playerCount; i++) {
-            this.stack.add(PlantableTileType.GARDEN);
+    /**
+     * Instantiates a {@link TileStack} from a snapshot containing the remaining
+     * tiles in the order they will be drawn.
+     * 
+     * @param buffer The buffer positioned at the snapshot of the tile stack.
+     * @see #writeTo(ByteBuffer)
+     */
+    public TileStack(final ByteBuffer buffer) {
+        this.deck = new byte[buffer.getInt()];
+        buffer.get(this.deck);
+        for (final byte tile : this.deck) {
+            Objects.checkIndex(tile, TILE_TYPES.length);
         }
+        this.cursor = 0;
+    }
 
-        // add 3n field tiles
-        for (int i = 0; i < 3 * playerCount; i++) {
-            this.stack.add(PlantableTileType.FIELD);
-        }
+    private TileStack(final TileStack other) {
+        this.deck = other.deck;
+        this.cursor = other.cursor;
+    }
 
-        // add 2n large field tiles
-        for (int i = 0; i < 2 * playerCount; i++) {
-            this.stack.add(PlantableTileType.LARGE_FIELD);
-        }
+    /**
+     * Returns a copy of the stack, from which tiles can be drawn independently of
+     * this stack. The deck is shared, as it is never modified.
+     * 
+     * @return the fork.
+     */
+    public TileStack fork() {
+        return new TileStack(this);
+    }
 
-        // add 2n forest tiles
-        for (int i = 0; i < 2 * playerCount; i++) {
-            this.stack.add(PlantableTileType.FOREST);
+    private static byte[] shuffledDeck(final int playerCount, final long seed) {
+        final DeckKey key = new DeckKey(playerCount, seed);
+        final byte[] cachedDeck = SHUFFLED_DECKS.get(key);
+        if (cachedDeck != null) {
+            return cachedDeck;
         }
 
+        final byte[] deck = createDeck(playerCount);
+        shuffle(deck, new Random(seed));
+        SHUFFLED_DECKS.putIfAbsent(key, deck);
+        return deck;
+    }
+
+    private static byte[] createDeck(final int playerCount) {
+        final byte[] deck = new byte[10 * playerCount];
+        int position = 0;
+
+        // add 2n garden tiles
+        position = addTiles(deck, position, PlantableTileType.GARDEN, 2 * playerCount);
+        // add 3n field tiles
+        position = addTiles(deck, position, PlantableTileType.FIELD, 3 * playerCount);
+        // add 2n large field tiles
+        position = addTiles(deck, position, PlantableTileType.LARGE_FIELD, 2 * playerCount);
+        // add 2n forest tiles
+        position = addTiles(deck, position, PlantableTileType.FOREST, 2 * playerCount);
         // add n large forest tiles
-        for (int i = 0; i < playerCount; i++) {
-            this.stack.add(PlantableTileType.LARGE_FOREST);
+        addTiles(deck, position, PlantableTileType.LARGE_FOREST, playerCount);
+
+        return deck;
+    }
+
+    private static int addTiles(final byte[] deck, final int position, final PlantableTileType tileType,
+            final int count) {
+        for (int i = position; i < position + count; i++) {
+            deck[i] = (byte) tileType.ordinal();
         }
+        return position + count;
+    }
 
-        // shuffle tiles
-        Collections.shuffle(this.stack, new Random(seed));
+    private static void shuffle(final byte[] deck, final Random random) {
+        // the same swaps as Collections.shuffle on a list, so the order of the tiles
+        // stays the same for every seed
+        for (int i = deck.length; i > 1; i--) {
+            final int other = random.nextInt(i);
+            final byte tile = deck[i - 1];
+            deck[i - 1] = deck[other];
+            deck[other] = tile;
+        }
     }
 
     /**
@@ -75,7 +143,16 @@ public class TileStack {
      * @return {@code true} if the stack is empty, {@code false} otherwise.
      */
     public boolean isEmpty() {
-        return this.stack.isEmpty();
+        return this.cursor == this.deck.length;
+    }
+
+    /**
+     * Returns the number of tiles left on the stack.
+     * 
+     * @return the number of remaining tiles.
+     */
+    public int size() {
+        return this.deck.length - this.cursor;
     }
 
     /**
@@ -84,9 +161,62 @@ public class TileStack {
      * @return the tile type of the drawn tile.
      */
     public PlantableTileType drawTile() {
-        final PlantableTileType tile = this.stack.get(0);
-        this.stack.remove(0);
+        return TILE_TYPES[this.deck[this.cursor++]];
+    }
+
+    /**
+     * Writes the snapshot of the remaining tiles, which can be read by
+     * {@link #TileStack(ByteBuffer)}.
+     * 
+     * @param buffer The buffer to write to.
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        buffer.putInt(this.size());
+        buffer.put(this.deck, this.cursor, this.size());
+    }
+
+    /**
+     * The key of a cached deck.
+     */
+    private static final class DeckKey {
+        private final int playerCount;
+        private final long seed;
 
-        return tile;
+        private DeckKey(final int playerCount, final long seed) {
+            this.playerCount = playerCount;
+            this.seed = seed;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof DeckKey)) {
+                return false;
+            }
+            final DeckKey key = (DeckKey) other;
+            return this.playerCount == key.playerCount && this.seed == key.seed;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.playerCount + Long.hashCode(this.seed);
+        }
+    }
+
+    /**
+     * The cache of shuffled decks, which evicts the least recently used deck once
+     * it holds more than {@value #MAX_CACHED_DECKS} decks.
+     */
+    private static final class DeckCache extends LinkedHashMap<DeckKey, byte[]> {
+
+        private static final long serialVersionUID = 4518725062183927021L;
+
+        private DeckCache() {
+            super(MAX_CACHED_DECKS, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<DeckKey, byte[]> eldest) {
+            return this.size() > MAX_CACHED_DECKS;
+        }
     }
-}
\ No newline at end of file
+}
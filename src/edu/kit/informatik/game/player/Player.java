@@ -1,5 +1,6 @@
 package edu.kit.informatik.game.player;
 
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import edu.kit.informatik.config.ErrorMessages;
@@ -7,6 +8,7 @@ import edu.kit.informatik.game.GameException;
 import edu.kit.informatik.game.board.Barn;
 import edu.kit.informatik.game.board.Board;
 import edu.kit.informatik.game.type.VegetableType;
+import edu.kit.informatik.util.ByteBufferUtil;
 
 /**
  * Represents a player in queens farming.
@@ -21,6 +23,10 @@ public class Player {
     private final Board board;
     private final Barn barn;
 
+    // the list the player has joined, which is told about every change of gold
+    private PlayerList playerList;
+    private int joinIndex;
+
     /**
      * Instantiates a new {@link Player}.
      * 
@@ -35,6 +41,58 @@ public class Player {
         this.barn = new Barn();
     }
 
+    /**
+     * Instantiates a {@link Player} from a snapshot.
+     * 
+     * @param buffer The buffer positioned at the snapshot of the player.
+     * @see #writeTo(ByteBuffer)
+     */
+    public Player(final ByteBuffer buffer) {
+        this.name = ByteBufferUtil.getString(buffer);
+        this.gold = buffer.getInt();
+
+        this.board = new Board(buffer);
+        this.barn = new Barn(buffer);
+    }
+
+    private Player(final Player other) {
+        this.name = other.name;
+        this.gold = other.gold;
+
+        this.board = other.board.fork();
+        this.barn = other.barn.fork();
+    }
+
+    /**
+     * Returns a deep copy of the player, which has to join a player list.
+     * 
+     * @return the fork.
+     * @see PlayerList#fork()
+     */
+    Player fork() {
+        return new Player(this);
+    }
+
+    /**
+     * Joins the player to a player list.
+     * 
+     * @param list  The list the player joins.
+     * @param index The index of the player in the list.
+     */
+    void join(final PlayerList list, final int index) {
+        this.playerList = list;
+        this.joinIndex = index;
+    }
+
+    /**
+     * Returns the index of the player in the list they joined.
+     * 
+     * @return the join index.
+     */
+    int getJoinIndex() {
+        return this.joinIndex;
+    }
+
     /**
      * Returns the current amount of gold the player has.
      * 
@@ -77,12 +135,10 @@ public class Player {
      * 
      * @param vegetable The type of vegetable to be added
      * @param amount    The amount of vegetables to be added
-     * @see Barn#addVegetable(VegetableType)
+     * @see Barn#addVegetables(VegetableType, int)
      */
     public void addVegetable(final VegetableType vegetable, final int amount) {
-        for (int i = 0; i < amount; i++) {
-            this.barn.addVegetable(vegetable);
-        }
+        this.barn.addVegetables(vegetable, amount);
     }
 
     private void removeVegetable(final VegetableType vegetable) throws GameException {
@@ -101,17 +157,24 @@ public class Player {
         if (this.gold + amount < 0) {
             throw new GameException(ErrorMessages.NOT_ENOUGH_GOLD);
         }
+        final int previousGold = this.gold;
         this.gold += amount;
+
+        if (this.playerList != null && amount != 0) {
+            this.playerList.updateStanding(this, previousGold);
+        }
     }
 
     /**
-     * Removes a given vegetable.
+     * Removes the given amounts of all vegetables at once.
      * 
-     * @param vegetable Type of vegetable to sell.
-     * @see Barn#removeVegetable(VegetableType)
+     * @param vegetableCounts The amount of every vegetable to sell, indexed by the
+     *                        ordinal of the vegetable type.
+     * @throws GameException when the player doesn't own enough of a vegetable.
+     * @see Barn#removeVegetables(int[])
      */
-    public void sell(final VegetableType vegetable) {
-        this.barn.removeVegetable(vegetable);
+    public void sell(final int[] vegetableCounts) throws GameException {
+        this.barn.removeVegetables(vegetableCounts);
     }
 
     /**
@@ -206,6 +269,19 @@ public class Player {
         return this.board.toStringFormatted(this.barn);
     }
 
+    /**
+     * Writes the snapshot of the player, which can be read by
+     * {@link #Player(ByteBuffer)}.
+     * 
+     * @param buffer The buffer to write to.
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        ByteBufferUtil.putString(buffer, this.name);
+        buffer.putInt(this.gold);
+        this.board.writeTo(buffer);
+        this.barn.writeTo(buffer);
+    }
+
     /**
      * Returns the string representation of the player which simply is the name of
      * the player.
@@ -1,10 +1,17 @@
 package edu.kit.informatik.game.player;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.ArrayList;
 
 /**
  * Represents a list of all {@link Player} of the game queens farming.
+ * The players are kept ordered by their gold as well, which is updated
+ * whenever the gold of a player changes, so the highest amount of gold is
+ * known without looking at every player. The standings are a sorted array of
+ * primitive keys, so updating them doesn't allocate.
  * 
  * @author uiljo
  * @version 1.0
@@ -12,6 +19,9 @@ import java.util.ArrayList;
 public class PlayerList {
 
     private final List<Player> players;
+    // standing keys of the players in ascending order, so the highest gold is last
+    private final long[] standings;
+    private int highestGold;
 
     /**
      * Instantiates a new {@link PlayerList}.
@@ -21,12 +31,135 @@ public class PlayerList {
      */
     public PlayerList(final String[] playerNames, final int goldAtStart) {
         this.players = new ArrayList<>();
+        this.standings = new long[playerNames.length];
 
         for (String playerName : playerNames) {
-            this.players.add(new Player(playerName, goldAtStart));
+            this.addPlayer(new Player(playerName, goldAtStart));
         }
     }
 
+    /**
+     * Instantiates a {@link PlayerList} from a snapshot.
+     * 
+     * @param buffer The buffer positioned at the snapshot of the player list.
+     * @see #writeTo(ByteBuffer)
+     */
+    public PlayerList(final ByteBuffer buffer) {
+        final int playerCount = buffer.getInt();
+        this.players = new ArrayList<>();
+        this.standings = new long[playerCount];
+
+        for (int i = 0; i < playerCount; i++) {
+            this.addPlayer(new Player(buffer));
+        }
+    }
+
+    private PlayerList(final PlayerList other) {
+        this.players = new ArrayList<>(other.players.size());
+        for (final Player player : other.players) {
+            final Player fork = player.fork();
+            fork.join(this, this.players.size());
+            this.players.add(fork);
+        }
+        this.standings = other.standings.clone();
+        this.highestGold = other.highestGold;
+    }
+
+    /**
+     * Returns a deep copy of the list and all of its players, which can be changed
+     * independently of this list.
+     * 
+     * @return the fork.
+     */
+    public PlayerList fork() {
+        return new PlayerList(this);
+    }
+
+    private void addPlayer(final Player player) {
+        final int size = this.players.size();
+        player.join(this, size);
+        this.players.add(player);
+
+        final long key = standingKey(player.getGold(), player.getJoinIndex());
+        final int index = -Arrays.binarySearch(this.standings, 0, size, key) - 1;
+        System.arraycopy(this.standings, index, this.standings, index + 1, size - index);
+        this.standings[index] = key;
+        this.highestGold = goldOf(this.standings[size]);
+    }
+
+    private static long standingKey(final int gold, final int joinIndex) {
+        // for the same gold, the player who joined first comes first
+        return ((long) gold << Integer.SIZE) | (Integer.MAX_VALUE - joinIndex);
+    }
+
+    private static int goldOf(final long standingKey) {
+        return (int) (standingKey >> Integer.SIZE);
+    }
+
+    private static int joinIndexOf(final long standingKey) {
+        return Integer.MAX_VALUE - (int) standingKey;
+    }
+
+    /**
+     * Moves a player to their new place in the standings after their gold changed.
+     * 
+     * @param player       The player whose gold changed.
+     * @param previousGold The gold of the player before the change.
+     */
+    void updateStanding(final Player player, final int previousGold) {
+        final long previousKey = standingKey(previousGold, player.getJoinIndex());
+        final long key = standingKey(player.getGold(), player.getJoinIndex());
+        if (key == previousKey) {
+            return;
+        }
+
+        // the keys between the previous and the new place move by one towards the gap
+        final int size = this.players.size();
+        final int previousIndex = Arrays.binarySearch(this.standings, 0, size, previousKey);
+        int index = -Arrays.binarySearch(this.standings, 0, size, key) - 1;
+        if (index > previousIndex) {
+            index--;
+            System.arraycopy(this.standings, previousIndex + 1, this.standings, previousIndex, index - previousIndex);
+        } else {
+            System.arraycopy(this.standings, index, this.standings, index + 1, previousIndex - index);
+        }
+        this.standings[index] = key;
+        this.highestGold = goldOf(this.standings[size - 1]);
+    }
+
+    /**
+     * Returns the standing key at a position of the standings.
+     * 
+     * @param position The position, {@code 0} for the player with the most gold.
+     * @return the standing key.
+     */
+    private long standingAt(final int position) {
+        return this.standings[this.players.size() - 1 - position];
+    }
+
+    /**
+     * Returns the highest amount of gold a player has.
+     * 
+     * @return the highest amount of gold.
+     */
+    public int getHighestGold() {
+        return this.highestGold;
+    }
+
+    /**
+     * Returns all players ordered by their gold, starting with the highest amount.
+     * Players with the same amount of gold are in the order they joined the game.
+     * 
+     * @return the players in the order of the standings.
+     */
+    public List<Player> getLeaderboard() {
+        final List<Player> leaderboard = new ArrayList<>(this.players.size());
+        for (int position = 0; position < this.players.size(); position++) {
+            leaderboard.add(this.players.get(joinIndexOf(this.standingAt(position))));
+        }
+        return leaderboard;
+    }
+
     /**
      * Returns amount of players in the game.
      * 
@@ -54,48 +187,44 @@ public class PlayerList {
      * @return {@code true} if someone won, {@code false} otherwise.
      */
     public boolean someoneWon(final int goldToWin) {
-        for (int i = 0; i < this.players.size(); i++) {
-            if (this.players.get(i).getGold() >= goldToWin) {
-                return true;
-            }
-        }
-        return false;
+        return this.highestGold >= goldToWin;
     }
 
     /**
-     * handles the end of the game. Determines the winner(s) of the game and returns
-     * a message containing the players that won.
+     * Determines the player(s) that won the game.
      * If no player has reached the amount of gold needed to win, the player(s) with
      * the highest amount of gold will win.
      * 
      * @param goldToWin The amount of gold a player needs to win the game
-     * @return A string representation of the player(s) that won.
+     * @return A list of all players that won, in the order they joined the game.
      */
-    public String endGame(final int goldToWin) {
+    public List<Player> getWinners(final int goldToWin) {
         List<Player> playerThatWon = new ArrayList<>();
 
-        // get player(s) that won
-        for (int i = 0; i < this.players.size(); i++) {
-            if (this.players.get(i).getGold() >= goldToWin) {
-                playerThatWon.add(this.players.get(i));
+        // player(s) that won, or the player(s) with the highest amount of gold if no one won
+        final int goldOfWinners = Math.min(goldToWin, this.highestGold);
+        for (int position = 0; position < this.players.size(); position++) {
+            final long standingKey = this.standingAt(position);
+            if (goldOf(standingKey) < goldOfWinners) {
+                break;
             }
+            playerThatWon.add(this.players.get(joinIndexOf(standingKey)));
         }
 
-        // get player(s) with the highest amount of gold if no one won
-        if (playerThatWon.isEmpty()) {
-            // get the highest amount of gold
-            int highestGold = 0;
-            for (int i = 0; i < this.players.size(); i++) {
-                highestGold = Math.max(highestGold, this.players.get(i).getGold());
-            }
+        playerThatWon.sort(Comparator.comparingInt(Player::getJoinIndex));
+        return playerThatWon;
+    }
 
-            // add all players to list that have the highest amount
-            for (int i = 0; i < this.players.size(); i++) {
-                if (this.players.get(i).getGold() == highestGold) {
-                    playerThatWon.add(this.players.get(i));
-                }
-            }
-        }
+    /**
+     * handles the end of the game. Determines the winner(s) of the game and returns
+     * a message containing the players that won.
+     * 
+     * @param goldToWin The amount of gold a player needs to win the game
+     * @return A string representation of the player(s) that won.
+     * @see #getWinners(int)
+     */
+    public String endGame(final int goldToWin) {
+        List<Player> playerThatWon = this.getWinners(goldToWin);
 
         if (playerThatWon.size() == 1) {
             return String.format("%s has won!", playerThatWon.get(0).toString());
@@ -113,6 +242,46 @@ public class PlayerList {
         return sb.toString();
     }
 
+    /**
+     * Writes the snapshot of all players, which can be read by
+     * {@link #PlayerList(ByteBuffer)}.
+     * 
+     * @param buffer The buffer to write to.
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        buffer.putInt(this.players.size());
+        for (final Player player : this.players) {
+            player.writeTo(buffer);
+        }
+    }
+
+    /**
+     * Returns the string representation of the standings. Every player is
+     * represented by a line containing their rank, the name and the amount of gold
+     * they have. Players with the same amount of gold share their rank.
+     * 
+     * @return Standings string representation.
+     */
+    public String toLeaderboardString() {
+        StringBuilder sb = new StringBuilder();
+
+        int rank = 0;
+        int previousGold = -1;
+        for (int position = 0; position < this.players.size(); position++) {
+            final long standingKey = this.standingAt(position);
+            if (goldOf(standingKey) != previousGold) {
+                rank = position + 1;
+                previousGold = goldOf(standingKey);
+            }
+
+            final Player player = this.players.get(joinIndexOf(standingKey));
+            sb.append(String.format("%d. %s: %d", rank, player.toString(), player.getGold()));
+            sb.append(System.lineSeparator());
+        }
+
+        return sb.toString().trim();
+    }
+
     /**
      * Returns the string representation of the player list.
      * Every player is represented by a line containing the player id, the name and
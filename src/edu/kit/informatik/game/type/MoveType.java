@@ -0,0 +1,46 @@
+package edu.kit.informatik.game.type;
+
+/**
+ * Enum of the types of actions a player can take in the game, as enumerated by
+ * the move generator
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public enum MoveType {
+
+    /**
+     * Ends the turn
+     */
+    END_TURN,
+
+    /**
+     * Sells all vegetables of the barn
+     */
+    SELL_ALL,
+
+    /**
+     * Sells an amount of a single vegetable
+     */
+    SELL,
+
+    /**
+     * Buys a vegetable
+     */
+    BUY_VEGETABLE,
+
+    /**
+     * Buys land at a location
+     */
+    BUY_LAND,
+
+    /**
+     * Harvests an amount of vegetables at a location
+     */
+    HARVEST,
+
+    /**
+     * Plants a vegetable at a location
+     */
+    PLANT
+}
@@ -1,5 +1,9 @@
 package edu.kit.informatik.game.type;
 
+import java.util.Arrays;
+
+import edu.kit.informatik.util.NameIndex;
+
 /**
  * Enum of the types of vegetables in the game
  * 
@@ -28,6 +32,9 @@ public enum VegetableType {
      */
     TOMATO("tomato", "tomatoes", "T", 3);
 
+    private static final NameIndex<VegetableType> TYPES_BY_NAME = new NameIndex<>(
+            Arrays.asList(VegetableType.values()), VegetableType::getSingular);
+
     private final String singular;
     private final String plural;
     private final String abbreviation;
@@ -47,13 +54,20 @@ public enum VegetableType {
      * @return The corresponding vegetable type or {@code null} if there is non.
      */
     public static VegetableType fromString(final String s) {
-        for (final VegetableType type : VegetableType.values()) {
-            if (type.getSingular().equals(s)) {
-                return type;
-            }
-        }
+        return fromString(s, 0, s.length());
+    }
 
-        return null;
+    /**
+     * Returns the corresponding vegetable type by the name in the given range of a
+     * character sequence, without creating a substring.
+     * 
+     * @param s     The character sequence containing the name.
+     * @param start The index of the first character of the name.
+     * @param end   The index after the last character of the name.
+     * @return The corresponding vegetable type or {@code null} if there is non.
+     */
+    public static VegetableType fromString(final CharSequence s, final int start, final int end) {
+        return TYPES_BY_NAME.find(s, start, end);
     }
 
     /**
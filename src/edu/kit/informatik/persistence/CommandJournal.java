@@ -0,0 +1,133 @@
+package edu.kit.informatik.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import edu.kit.informatik.simulation.GameSpec;
+import edu.kit.informatik.util.ByteBufferUtil;
+
+/**
+ * An append-only journal of a game. The journal starts with a header
+ * containing the setup of the game, followed by one compact record for every
+ * accepted command that changed the game. The records are collected in a
+ * buffer and written to the file when it is full or when the journal is
+ * flushed, so a game can be rebuilt by the {@link JournalReplayer} up to the
+ * last flush.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class CommandJournal implements Closeable {
+
+    /**
+     * The first four bytes of every journal
+     */
+    public static final int MAGIC = 0x51464A31;
+    /**
+     * The version of the journal format
+     */
+    public static final short VERSION = 1;
+    /**
+     * The maximum size of a single record in bytes
+     */
+    public static final int MAX_RECORD_SIZE = 32;
+
+    private static final int BUFFER_SIZE = 1 << 12;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    private CommandJournal(final FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new journal for a game, replacing the content of the file, and
+     * writes the setup of the game.
+     * 
+     * @param path The path of the journal file.
+     * @param spec The setup of the game.
+     * @return the new journal.
+     * @throws IOException if the file can't be written.
+     */
+    public static CommandJournal create(final Path path, final GameSpec spec) throws IOException {
+        final CommandJournal journal = new CommandJournal(FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+
+        final ByteBuffer header = journal.buffer;
+        header.putInt(MAGIC);
+        header.putShort(VERSION);
+        header.putInt(spec.getPlayerNames().length);
+        for (final String playerName : spec.getPlayerNames()) {
+            ByteBufferUtil.putString(header, playerName);
+        }
+        header.putInt(spec.getGoldAtStart());
+        header.putInt(spec.getGoldToWin());
+        header.putLong(spec.getSeed());
+        journal.flush();
+        return journal;
+    }
+
+    /**
+     * Reopens an existing journal to append further records. Everything behind
+     * the given length, like a record that was only written partly, is removed.
+     * 
+     * @param path        The path of the journal file.
+     * @param validLength The length of the valid part of the journal.
+     * @return the reopened journal.
+     * @throws IOException if the file can't be written.
+     * @see JournalReplayer#getValidLength()
+     */
+    public static CommandJournal append(final Path path, final long validLength) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE);
+        channel.truncate(validLength);
+        channel.position(validLength);
+        return new CommandJournal(channel);
+    }
+
+    /**
+     * Returns the buffer to write the next record into. At least
+     * {@link #MAX_RECORD_SIZE} bytes can be written into it.
+     * 
+     * @return the buffer for the next record.
+     * @throws IOException if the buffer was full and couldn't be written.
+     */
+    public ByteBuffer startRecord() throws IOException {
+        if (this.buffer.remaining() < MAX_RECORD_SIZE) {
+            this.flush();
+        }
+        return this.buffer;
+    }
+
+    /**
+     * Writes all collected records to the file.
+     * 
+     * @throws IOException if the file can't be written.
+     */
+    public void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Writes all collected records and closes the journal.
+     * 
+     * @throws IOException if the file can't be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            this.flush();
+        } finally {
+            this.channel.close();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package edu.kit.informatik.persistence;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import edu.kit.informatik.config.ErrorMessages;
+import edu.kit.informatik.game.QueensFarming;
+import edu.kit.informatik.simulation.GameSpec;
+import edu.kit.informatik.ui.CommandHandler;
+import edu.kit.informatik.util.ByteBufferUtil;
+
+/**
+ * Rebuilds a game from a {@link CommandJournal} by executing its records again.
+ * The game is quiet while it is replayed, so no messages are formatted, and
+ * the records are executed directly without parsing any text.
+ * A record at the end of the journal that was only written partly, for example
+ * because the game crashed, is ignored.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class JournalReplayer {
+
+    // the length of a name and its first character
+    private static final int MIN_PLAYER_NAME_BYTES = Integer.BYTES + 1;
+
+    private final ByteBuffer journal;
+    private GameSpec spec;
+    private int validLength;
+    private int replayedCommands;
+
+    /**
+     * Instantiates a new {@link JournalReplayer}.
+     * 
+     * @param journal The buffer containing the journal from its position on.
+     */
+    public JournalReplayer(final ByteBuffer journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Instantiates a new {@link JournalReplayer} for a memory-mapped journal file.
+     * 
+     * @param path The path of the journal file.
+     * @return the replayer for the file.
+     * @throws IOException if the file can't be read.
+     */
+    public static JournalReplayer map(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new JournalReplayer(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    private void readHeader() throws IOException {
+        try {
+            if (this.journal.getInt() != CommandJournal.MAGIC || this.journal.getShort() != CommandJournal.VERSION) {
+                throw new IOException(ErrorMessages.INVALID_JOURNAL);
+            }
+
+            // every player has a name of at least one character, checked before allocating
+            final int playerCount = this.journal.getInt();
+            if (playerCount <= 0 || playerCount > this.journal.remaining() / MIN_PLAYER_NAME_BYTES) {
+                throw new IOException(ErrorMessages.INVALID_JOURNAL);
+            }
+
+            final String[] playerNames = new String[playerCount];
+            for (int i = 0; i < playerNames.length; i++) {
+                playerNames[i] = ByteBufferUtil.getString(this.journal);
+            }
+            final int goldAtStart = this.journal.getInt();
+            final int goldToWin = this.journal.getInt();
+            final long seed = this.journal.getLong();
+            this.spec = new GameSpec(playerNames, goldAtStart, goldToWin, seed);
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            throw new IOException(ErrorMessages.INVALID_JOURNAL, e);
+        }
+    }
+
+    /**
+     * Rebuilds the game by executing all records of the journal. Like in the game
+     * loop of the user interface, the next turn is started whenever a turn ended.
+     * 
+     * @return the rebuilt game.
+     * @throws IOException if the journal is damaged or doesn't fit to the game.
+     */
+    public QueensFarming replay() throws IOException {
+        this.readHeader();
+        this.validLength = this.journal.position();
+
+        final QueensFarming game = this.spec.createGame();
+        game.setQuiet(true);
+        game.startNextTurn();
+        while (this.journal.hasRemaining() && game.isActive()) {
+            try {
+                CommandHandler.replayCommand(this.journal, game);
+            } catch (BufferUnderflowException e) {
+                // the last record was only written partly
+                break;
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IOException(ErrorMessages.INVALID_JOURNAL, e);
+            }
+            this.validLength = this.journal.position();
+            this.replayedCommands++;
+
+            if (game.isActive() && !game.isTurnRunning()) {
+                game.startNextTurn();
+            }
+        }
+        game.setQuiet(false);
+
+        return game;
+    }
+
+    /**
+     * Returns the setup of the replayed game.
+     * 
+     * @return the setup read from the journal header.
+     */
+    public GameSpec getSpec() {
+        return this.spec;
+    }
+
+    /**
+     * Returns the length of the journal up to the end of the last complete
+     * record, from which further records can be appended.
+     * 
+     * @return the length of the valid part of the journal.
+     */
+    public int getValidLength() {
+        return this.validLength;
+    }
+
+    /**
+     * Returns the number of commands executed during the replay.
+     * 
+     * @return the number of replayed commands.
+     */
+    public int getReplayedCommands() {
+        return this.replayedCommands;
+    }
+}
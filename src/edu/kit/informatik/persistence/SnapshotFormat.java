@@ -0,0 +1,36 @@
+package edu.kit.informatik.persistence;
+
+import edu.kit.informatik.config.ErrorMessages;
+
+/**
+ * Class with the constants of the binary game snapshot format.
+ * Every snapshot starts with a header containing the magic number, the format
+ * version and the length of the following game data in bytes, so several
+ * snapshots can be stored one after another in the same file.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public final class SnapshotFormat {
+
+    /**
+     * The first four bytes of every snapshot
+     */
+    public static final int MAGIC = 0x51464731;
+    /**
+     * The version of the format written by the {@link SnapshotWriter}
+     */
+    public static final short VERSION = 1;
+    /**
+     * The size of the header in bytes
+     */
+    public static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES;
+    /**
+     * The position of the data length within the header
+     */
+    public static final int LENGTH_POSITION = Integer.BYTES + Short.BYTES;
+
+    private SnapshotFormat() {
+        throw new AssertionError(ErrorMessages.UTILITY_CLASS_INSTANTIATION);
+    }
+}
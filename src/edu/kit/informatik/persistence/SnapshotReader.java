@@ -0,0 +1,88 @@
+package edu.kit.informatik.persistence;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.kit.informatik.config.ErrorMessages;
+import edu.kit.informatik.game.QueensFarming;
+
+/**
+ * Reads the binary snapshots written by the {@link SnapshotWriter}. Files are
+ * memory-mapped, so the games are decoded without copying the file first.
+ * 
+ * @author uiljo
+ * @version 1.0
+ * @see SnapshotFormat
+ */
+public final class SnapshotReader {
+
+    private SnapshotReader() {
+        throw new AssertionError(ErrorMessages.UTILITY_CLASS_INSTANTIATION);
+    }
+
+    /**
+     * Decodes the snapshot at the position of the buffer and moves the position
+     * behind it.
+     * 
+     * @param buffer The buffer containing the snapshot.
+     * @return the restored game.
+     * @throws IOException if the snapshot is damaged or has an unknown format.
+     */
+    public static QueensFarming decode(final ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != SnapshotFormat.MAGIC || buffer.getShort() != SnapshotFormat.VERSION) {
+                throw new IOException(ErrorMessages.INVALID_SNAPSHOT);
+            }
+            final int length = buffer.getInt();
+
+            // a damaged game can't read beyond its own data
+            final ByteBuffer data = buffer.slice(buffer.position(), length);
+            final QueensFarming game = new QueensFarming(data);
+            if (data.hasRemaining()) {
+                throw new IOException(ErrorMessages.INVALID_SNAPSHOT);
+            }
+            buffer.position(buffer.position() + length);
+            return game;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException
+                | ArithmeticException e) {
+            throw new IOException(ErrorMessages.INVALID_SNAPSHOT, e);
+        }
+    }
+
+    /**
+     * Loads the first game snapshot of a file.
+     * 
+     * @param path The path of the file.
+     * @return the restored game.
+     * @throws IOException if reading the file fails or the snapshot is invalid.
+     */
+    public static QueensFarming load(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Loads all game snapshots stored one after another in a file.
+     * 
+     * @param path The path of the file.
+     * @return the restored games in the order they are stored.
+     * @throws IOException if reading the file fails or a snapshot is invalid.
+     */
+    public static List<QueensFarming> loadAll(final Path path) throws IOException {
+        final List<QueensFarming> games = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            while (buffer.hasRemaining()) {
+                games.add(decode(buffer));
+            }
+        }
+        return games;
+    }
+}
@@ -0,0 +1,87 @@
+package edu.kit.informatik.persistence;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import edu.kit.informatik.game.QueensFarming;
+
+/**
+ * Writes binary snapshots of {@link QueensFarming} games.
+ * All snapshots are encoded into the same direct buffer, which only grows when
+ * a game doesn't fit into it, so a writer should be reused for many games.
+ * 
+ * @author uiljo
+ * @version 1.0
+ * @see SnapshotFormat
+ * @see SnapshotReader
+ */
+public class SnapshotWriter {
+
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private ByteBuffer buffer;
+
+    /**
+     * Instantiates a new {@link SnapshotWriter}.
+     */
+    public SnapshotWriter() {
+        this.buffer = ByteBuffer.allocateDirect(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Encodes the snapshot of a game including its header. The returned buffer is
+     * only valid until the next call of this writer.
+     * 
+     * @param game The game to encode.
+     * @return the buffer containing the snapshot between its position and limit.
+     */
+    public ByteBuffer encode(final QueensFarming game) {
+        while (true) {
+            this.buffer.clear();
+            try {
+                this.buffer.putInt(SnapshotFormat.MAGIC);
+                this.buffer.putShort(SnapshotFormat.VERSION);
+                this.buffer.putInt(0);
+                game.writeTo(this.buffer);
+                this.buffer.putInt(SnapshotFormat.LENGTH_POSITION,
+                        this.buffer.position() - SnapshotFormat.HEADER_SIZE);
+                return this.buffer.flip();
+            } catch (BufferOverflowException e) {
+                this.buffer = ByteBuffer.allocateDirect(this.buffer.capacity() * 2);
+            }
+        }
+    }
+
+    /**
+     * Writes the snapshot of a game to the given channel.
+     * 
+     * @param game    The game to write.
+     * @param channel The channel to write to.
+     * @throws IOException if writing to the channel fails.
+     */
+    public void write(final QueensFarming game, final WritableByteChannel channel) throws IOException {
+        final ByteBuffer snapshot = this.encode(game);
+        while (snapshot.hasRemaining()) {
+            channel.write(snapshot);
+        }
+    }
+
+    /**
+     * Saves the snapshot of a game to a file, replacing its content.
+     * 
+     * @param game The game to save.
+     * @param path The path of the file.
+     * @throws IOException if writing the file fails.
+     */
+    public void save(final QueensFarming game, final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            this.write(game, channel);
+        }
+    }
+}
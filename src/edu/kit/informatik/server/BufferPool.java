@@ -0,0 +1,53 @@
+package edu.kit.informatik.server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * A pool of direct byte buffers of the same size, owned by a single thread.
+ * Direct buffers are expensive to allocate and are only freed by the garbage
+ * collector, so released buffers are kept for reuse up to a fixed amount.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+class BufferPool {
+
+    private static final int MAX_RETAINED_BUFFERS = 1 << 8;
+
+    private final int bufferSize;
+    private final ArrayDeque<ByteBuffer> buffers;
+
+    /**
+     * Instantiates a new, empty {@link BufferPool}.
+     * 
+     * @param bufferSize The capacity of every buffer in bytes.
+     */
+    BufferPool(final int bufferSize) {
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayDeque<>();
+    }
+
+    /**
+     * Takes a cleared buffer from the pool, or allocates a new one if the pool is
+     * empty.
+     * 
+     * @return the buffer.
+     */
+    ByteBuffer acquire() {
+        final ByteBuffer buffer = this.buffers.pollLast();
+        return buffer == null ? ByteBuffer.allocateDirect(this.bufferSize) : buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool. The buffer must not be used afterwards.
+     * 
+     * @param buffer The buffer taken from this pool.
+     */
+    void release(final ByteBuffer buffer) {
+        if (this.buffers.size() < MAX_RETAINED_BUFFERS) {
+            buffer.clear();
+            this.buffers.addLast(buffer);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package edu.kit.informatik.server;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * An unbounded queue of commands, which may be filled by any number of threads
+ * but is only emptied by one thread at a time.
+ * Adding a command is a single atomic exchange of the tail, so producers never
+ * lock or retry. The consumer follows the links from the head without any
+ * atomic operation.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class CommandMailbox {
+
+    private final AtomicReference<Message> tail;
+    // only accessed by the consumer, the stub whose successor is the next message
+    private Message head;
+
+    /**
+     * Instantiates a new, empty {@link CommandMailbox}.
+     */
+    public CommandMailbox() {
+        this.head = new Message(null, null);
+        this.tail = new AtomicReference<>(this.head);
+    }
+
+    /**
+     * Adds a command to the mailbox. May be called by any thread.
+     * 
+     * @param command  The command line.
+     * @param callback Receives the response of the command.
+     */
+    public void offer(final String command, final Consumer<String> callback) {
+        final Message message = new Message(command, callback);
+        final Message previous = this.tail.getAndSet(message);
+        // the message is visible to the consumer once linked
+        previous.next = message;
+    }
+
+    /**
+     * Removes the oldest message from the mailbox. May only be called by the
+     * consumer.
+     * A message whose producer has not linked it yet is not returned, but such a
+     * producer schedules the consumer again after linking. The returned message
+     * must not be used after the next call.
+     * 
+     * @return the oldest message, or {@code null} if there is none.
+     */
+    public Message poll() {
+        final Message next = this.head.next;
+        if (next == null) {
+            return null;
+        }
+
+        // the polled message becomes the new stub, so the previous one is released
+        this.head.command = null;
+        this.head.callback = null;
+        this.head = next;
+        return next;
+    }
+
+    /**
+     * Returns whether a linked message is waiting. May only be called by the
+     * consumer.
+     * 
+     * @return {@code true} if {@link #poll()} would return a message.
+     */
+    public boolean hasMessage() {
+        return this.head.next != null;
+    }
+
+    /**
+     * A command waiting in the mailbox together with the receiver of its response.
+     */
+    public static final class Message {
+        private String command;
+        private Consumer<String> callback;
+        private volatile Message next;
+
+        private Message(final String command, final Consumer<String> callback) {
+            this.command = command;
+            this.callback = callback;
+        }
+
+        /**
+         * Returns the command line.
+         * 
+         * @return the command.
+         */
+        public String getCommand() {
+            return this.command;
+        }
+
+        /**
+         * Returns the receiver of the response.
+         * 
+         * @return the callback.
+         */
+        public Consumer<String> getCallback() {
+            return this.callback;
+        }
+    }
+}
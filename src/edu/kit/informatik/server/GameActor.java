@@ -0,0 +1,150 @@
+package edu.kit.informatik.server;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import edu.kit.informatik.config.ErrorMessages;
+import edu.kit.informatik.game.GameException;
+import edu.kit.informatik.game.QueensFarming;
+import edu.kit.informatik.server.CommandMailbox.Message;
+import edu.kit.informatik.ui.CommandHandler;
+
+/**
+ * Serializes the commands of any number of clients sharing a game of queens
+ * farming. Commands are collected in a {@link CommandMailbox} and executed by
+ * a drain task on a shared scheduler, so many actors can share a few threads
+ * while every game is only ever accessed by one thread at a time.
+ * A drain executes up to {@value #BATCH_SIZE} commands before it gives the
+ * thread to other actors, and every response is delivered to the callback
+ * of its command on the scheduler thread, so callbacks must neither block nor
+ * throw.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class GameActor {
+
+    private static final int BATCH_SIZE = 64;
+
+    private final QueensFarming game;
+    private final Executor scheduler;
+    private final CommandMailbox mailbox;
+    private final AtomicBoolean isScheduled;
+    private final Runnable drainTask;
+    private final StringBuilder response;
+    // only accessed by the drain task, which never runs concurrently
+    private boolean isFailed;
+
+    /**
+     * Instantiates a new {@link GameActor}. The game must not be accessed in any
+     * other way afterwards.
+     * 
+     * @param game      The game receiving the commands.
+     * @param scheduler The executor running the drain tasks, usually shared by
+     *                  many actors.
+     */
+    public GameActor(final QueensFarming game, final Executor scheduler) {
+        this.game = game;
+        this.scheduler = scheduler;
+        this.mailbox = new CommandMailbox();
+        this.isScheduled = new AtomicBoolean();
+        this.drainTask = this::drain;
+        this.response = new StringBuilder();
+    }
+
+    /**
+     * Queues a command of the game. May be called by any thread and never blocks.
+     * The response contains everything the console version would print after the
+     * command, i.e. also the start of the next turn or the end of the game.
+     * 
+     * @param command  The command line.
+     * @param callback Receives the response, which is {@code null} if there is
+     *                 nothing to print.
+     */
+    public void submit(final String command, final Consumer<String> callback) {
+        this.mailbox.offer(command, callback);
+        this.schedule();
+    }
+
+    private void schedule() {
+        if (this.isScheduled.compareAndSet(false, true)) {
+            this.scheduler.execute(this.drainTask);
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                final Message message = this.mailbox.poll();
+                if (message == null) {
+                    break;
+                }
+                message.getCallback().accept(this.executeSafely(message.getCommand()));
+            }
+        } finally {
+            // a producer that has seen the flag still set relies on this check, even
+            // if a callback has thrown
+            this.isScheduled.set(false);
+            if (this.mailbox.hasMessage()) {
+                this.schedule();
+            }
+        }
+    }
+
+    /**
+     * Executes a command and turns a rejected command into an error response, so
+     * its callback is called and the game keeps serving its other clients. Any
+     * other exception is passed on to the scheduler and ends the game of this
+     * actor, as its state can't be trusted anymore.
+     */
+    private String executeSafely(final String command) {
+        boolean isCompleted = false;
+        try {
+            final String result = this.execute(command);
+            isCompleted = true;
+            return result;
+        } catch (GameException e) {
+            isCompleted = true;
+            return e.getMessage();
+        } catch (IllegalArgumentException e) {
+            isCompleted = true;
+            return ErrorMessages.COMMAND_FAILED;
+        } finally {
+            if (!isCompleted) {
+                this.isFailed = true;
+            }
+        }
+    }
+
+    private String execute(final String command) {
+        if (this.isFailed || !this.game.isActive()) {
+            return ErrorMessages.GAME_ENDED;
+        }
+
+        this.response.setLength(0);
+        if (!this.game.isTurnRunning()) {
+            // only before the first command, later turns are started right away
+            this.appendLine(this.game.startNextTurn());
+        }
+        this.appendLine(CommandHandler.executeCommand(command, this.game));
+
+        if (this.game.isActive() && !this.game.isTurnRunning()) {
+            this.appendLine(this.game.startNextTurn());
+        }
+        if (!this.game.isActive()) {
+            this.appendLine(this.game.endGame());
+        }
+        return this.response.length() == 0 ? null : this.response.toString();
+    }
+
+    private void appendLine(final String line) {
+        if (line == null) {
+            return;
+        }
+        if (this.response.length() > 0) {
+            this.response.append(System.lineSeparator());
+        }
+        this.response.append(line);
+    }
+}
@@ -0,0 +1,187 @@
+package edu.kit.informatik.server;
+
+import edu.kit.informatik.config.ErrorMessages;
+import edu.kit.informatik.config.GeneralConfig;
+import edu.kit.informatik.game.QueensFarming;
+import edu.kit.informatik.ui.CommandHandler;
+
+/**
+ * The dialogue of a client with the server, from the setup of a game to its
+ * end, as a state machine. Every line of the client is passed to
+ * {@link #handle(String)}, which returns the response without waiting for more
+ * input, so the dialogue can be driven by a blocking session as well as by a
+ * selector.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class GameDialogue {
+
+    private final StringBuilder response;
+    private State state;
+    private String[] playerNames;
+    private int nameIndex;
+    private int goldAtStart;
+    private int goldToWin;
+    private QueensFarming game;
+
+    /**
+     * Instantiates a new {@link GameDialogue}.
+     */
+    public GameDialogue() {
+        this.response = new StringBuilder();
+        this.state = State.PLAYER_COUNT;
+    }
+
+    /**
+     * Returns the greeting of the dialogue, which asks for the first input.
+     * 
+     * @return the greeting.
+     */
+    public String start() {
+        return GeneralConfig.PIXEL_ART + System.lineSeparator() + "How many players?";
+    }
+
+    /**
+     * Returns whether the game has ended, so that no more input is expected.
+     * 
+     * @return {@code true} if the dialogue is finished, {@code false} otherwise.
+     */
+    public boolean isFinished() {
+        return this.state == State.FINISHED;
+    }
+
+    /**
+     * Handles the next line of the client.
+     * 
+     * @param line The line of input without its line terminator.
+     * @return the response, which may span multiple lines, or {@code null} if
+     *         there is nothing to print.
+     */
+    public String handle(final String line) {
+        this.response.setLength(0);
+        switch (this.state) {
+            case PLAYER_COUNT:
+                this.readPlayerCount(line);
+                break;
+            case PLAYER_NAME:
+                this.readPlayerName(line);
+                break;
+            case GOLD_AT_START:
+                this.goldAtStart = this.readNumber(line, 0, ErrorMessages.INPUT_SMALLER_ZERO);
+                this.nextState(State.GOLD_TO_WIN, "With how much gold should a player win?");
+                break;
+            case GOLD_TO_WIN:
+                this.goldToWin = this.readNumber(line, 1, ErrorMessages.INPUT_SMALLER_ONE);
+                this.nextState(State.SEED, "Please enter the seed used to shuffle the tiles:");
+                break;
+            case SEED:
+                this.readSeed(line);
+                break;
+            case PLAYING:
+                this.appendLine(CommandHandler.executeCommand(line, this.game));
+                this.continueGame();
+                break;
+            default:
+                return null;
+        }
+        return this.response.length() == 0 ? null : this.response.toString();
+    }
+
+    private void readPlayerCount(final String line) {
+        final int playerCount = this.readNumber(line, 1, ErrorMessages.INPUT_SMALLER_ONE);
+        if (this.response.length() > 0) {
+            return;
+        }
+        if (playerCount > GeneralConfig.MAX_SESSION_PLAYER_COUNT) {
+            this.appendLine(ErrorMessages.TOO_MANY_PLAYERS);
+            return;
+        }
+
+        this.playerNames = new String[playerCount];
+        this.nameIndex = 0;
+        this.nextState(State.PLAYER_NAME, "Enter the name of player 1:");
+    }
+
+    private void readPlayerName(final String line) {
+        if (!line.matches(GeneralConfig.VALID_PLAYER_NAME_REGEX)) {
+            this.appendLine(ErrorMessages.PLAYER_NAME_NOT_VALID);
+            return;
+        }
+
+        this.playerNames[this.nameIndex++] = line;
+        if (this.nameIndex < this.playerNames.length) {
+            this.appendLine(String.format("Enter the name of player %d:", this.nameIndex + 1));
+        } else {
+            this.nextState(State.GOLD_AT_START, "With how much gold should each player start?");
+        }
+    }
+
+    private void readSeed(final String line) {
+        final int seed = this.readNumber(line, Integer.MIN_VALUE, null);
+        if (this.response.length() > 0) {
+            return;
+        }
+
+        this.game = new QueensFarming(this.playerNames, this.goldAtStart, this.goldToWin, seed);
+        this.state = State.PLAYING;
+        this.continueGame();
+    }
+
+    /**
+     * Parses a number and appends an error message if the line is not a number or
+     * the number is too small.
+     */
+    private int readNumber(final String line, final int minValue, final String tooSmallMessage) {
+        try {
+            final int number = Integer.parseInt(line);
+            if (number < minValue) {
+                this.appendLine(tooSmallMessage);
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            this.appendLine(ErrorMessages.INPUT_NOT_NUMBER);
+            return 0;
+        }
+    }
+
+    /**
+     * Moves to the given state unless an error message has been appended.
+     */
+    private void nextState(final State next, final String prompt) {
+        if (this.response.length() == 0) {
+            this.state = next;
+            this.appendLine(prompt);
+        }
+    }
+
+    private void continueGame() {
+        if (this.game.isActive() && !this.game.isTurnRunning()) {
+            this.appendLine(this.game.startNextTurn());
+        }
+        if (!this.game.isActive()) {
+            this.appendLine(this.game.endGame());
+            this.state = State.FINISHED;
+        }
+    }
+
+    private void appendLine(final String line) {
+        if (line == null) {
+            return;
+        }
+        if (this.response.length() > 0) {
+            this.response.append(System.lineSeparator());
+        }
+        this.response.append(line);
+    }
+
+    private enum State {
+        PLAYER_COUNT,
+        PLAYER_NAME,
+        GOLD_AT_START,
+        GOLD_TO_WIN,
+        SEED,
+        PLAYING,
+        FINISHED
+    }
+}
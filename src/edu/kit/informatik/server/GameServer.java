@@ -0,0 +1,169 @@
+package edu.kit.informatik.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import edu.kit.informatik.config.ErrorMessages;
+
+/**
+ * A local TCP server hosting independent games of queens farming. Every
+ * connection plays its own {@link GameSession} on its own platform thread.
+ * Since the server targets Java 17, which has no virtual threads, at most
+ * {@value #MAX_SESSIONS} sessions are served at once. Further connections
+ * are told that the server is full and closed. Use {@link NioGameServer} for
+ * many thousands of mostly idle sessions.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class GameServer implements Closeable {
+
+    /**
+     * The maximum number of sessions served at once
+     */
+    public static final int MAX_SESSIONS = 1 << 10;
+
+    private static final int BACKLOG = 1 << 10;
+    private static final long ACCEPT_RETRY_DELAY_MILLIS = 100;
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 60;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessions;
+    private final Set<Socket> connections;
+
+    /**
+     * Instantiates a new {@link GameServer} listening on the loopback address.
+     * 
+     * @param port The port to listen on, {@code 0} for any free port.
+     * @throws IOException if the port can't be bound.
+     */
+    public GameServer(final int port) throws IOException {
+        this.serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+        this.sessions = newSessionExecutor();
+        this.connections = ConcurrentHashMap.newKeySet();
+    }
+
+    private static ExecutorService newSessionExecutor() {
+        // no queue, so a session either gets a thread right away or is rejected
+        return new ThreadPoolExecutor(0, MAX_SESSIONS, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                new SynchronousQueue<>());
+    }
+
+    /**
+     * Returns the port the server listens on.
+     * 
+     * @return the local port.
+     */
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the number of open sessions.
+     * 
+     * @return the number of connected clients.
+     */
+    public int getSessionCount() {
+        return this.connections.size();
+    }
+
+    /**
+     * Accepts connections and starts a session for each of them until the server
+     * is closed or the thread is interrupted. If a connection can't be accepted,
+     * for example because the process has run out of file descriptors, the server
+     * waits a moment before it tries again.
+     */
+    public void serve() {
+        while (!this.serverSocket.isClosed()) {
+            final Socket socket;
+            try {
+                socket = this.serverSocket.accept();
+            } catch (IOException e) {
+                if (!this.serverSocket.isClosed() && !this.waitBeforeRetry()) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                socket.setTcpNoDelay(true);
+            } catch (IOException e) {
+                // the client is already gone
+                closeQuietly(socket);
+                continue;
+            }
+
+            this.connections.add(socket);
+            try {
+                this.sessions.execute(() -> {
+                    try {
+                        new GameSession(socket).run();
+                    } finally {
+                        this.connections.remove(socket);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                this.connections.remove(socket);
+                rejectQuietly(socket);
+            }
+        }
+    }
+
+    /**
+     * Waits before the next connection is accepted.
+     * 
+     * @return {@code false} if the thread has been interrupted, {@code true}
+     *         otherwise.
+     */
+    private boolean waitBeforeRetry() {
+        try {
+            Thread.sleep(ACCEPT_RETRY_DELAY_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void rejectQuietly(final Socket socket) {
+        try {
+            socket.getOutputStream().write((ErrorMessages.SERVER_FULL + System.lineSeparator())
+                    .getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // the client is already gone
+        }
+        closeQuietly(socket);
+    }
+
+    private static void closeQuietly(final Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // the connection is gone either way
+        }
+    }
+
+    /**
+     * Stops accepting connections and closes all open sessions.
+     * 
+     * @throws IOException if the server socket can't be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        this.serverSocket.close();
+        for (final Socket socket : this.connections) {
+            socket.close();
+        }
+        this.sessions.shutdown();
+    }
+}
@@ -0,0 +1,99 @@
+package edu.kit.informatik.server;
+
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import edu.kit.informatik.config.ErrorMessages;
+import edu.kit.informatik.game.GameException;
+
+/**
+ * A game of queens farming played over a connection to the {@link GameServer}.
+ * The session runs a {@link GameDialogue}, which asks for the setup and runs the
+ * game loop like the console version, but with its own game, so sessions don't
+ * share any mutable state.
+ * Output is only sent when the session waits for the next line of input.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class GameSession implements Runnable {
+
+    private static final int OUTPUT_BUFFER_SIZE = 512;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    private final Socket socket;
+    private LineReader input;
+    private OutputStream output;
+
+    /**
+     * Instantiates a new {@link GameSession}.
+     * 
+     * @param socket The connection of the session, which is closed when the
+     *               session ends.
+     */
+    public GameSession(final Socket socket) {
+        this.socket = socket;
+    }
+
+    /**
+     * Plays the game until it ends or the connection is closed.
+     */
+    @Override
+    public void run() {
+        try (Socket connection = this.socket) {
+            this.input = new LineReader(connection.getInputStream());
+            this.output = new BufferedOutputStream(connection.getOutputStream(), OUTPUT_BUFFER_SIZE);
+
+            this.play();
+            this.output.flush();
+        } catch (IOException e) {
+            // the connection has been closed by the client or the server
+        }
+    }
+
+    private void play() throws IOException {
+        final GameDialogue dialogue = new GameDialogue();
+        this.println(dialogue.start());
+
+        while (!dialogue.isFinished()) {
+            this.println(handleSafely(dialogue, this.readLine()));
+        }
+    }
+
+    /**
+     * Handles a line and turns a rejected command into an error reply, so it
+     * doesn't end the session. Any other exception ends this session only.
+     */
+    private static String handleSafely(final GameDialogue dialogue, final String line) {
+        try {
+            return dialogue.handle(line);
+        } catch (GameException e) {
+            return e.getMessage();
+        } catch (IllegalArgumentException e) {
+            return ErrorMessages.COMMAND_FAILED;
+        }
+    }
+
+    private void println(final String message) throws IOException {
+        if (message != null) {
+            this.output.write(message.getBytes(StandardCharsets.UTF_8));
+            this.output.write(LINE_SEPARATOR);
+        }
+    }
+
+    private String readLine() throws IOException {
+        if (!this.input.isInputPending()) {
+            this.output.flush();
+        }
+
+        final String line = this.input.readLine();
+        if (line == null) {
+            throw new EOFException();
+        }
+        return line;
+    }
+}
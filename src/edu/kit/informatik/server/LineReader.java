@@ -0,0 +1,88 @@
+package edu.kit.informatik.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import edu.kit.informatik.config.ErrorMessages;
+
+/**
+ * Reads lines from a byte stream with a small buffer. Unlike a buffered reader
+ * with a character decoder, an idle reader only holds a few hundred bytes, so
+ * a server can keep thousands of them open.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class LineReader {
+
+    private static final int BUFFER_SIZE = 256;
+    private static final int MAX_LINE_LENGTH = 1 << 12;
+
+    private final InputStream input;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private byte[] line;
+
+    /**
+     * Instantiates a new {@link LineReader}.
+     * 
+     * @param input The stream to read from.
+     */
+    public LineReader(final InputStream input) {
+        this.input = input;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.line = new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * Checks whether more input can be read without blocking.
+     * 
+     * @return {@code true} if input is pending, {@code false} otherwise.
+     * @throws IOException if the stream can't be read.
+     */
+    public boolean isInputPending() throws IOException {
+        return this.position < this.limit || this.input.available() > 0;
+    }
+
+    /**
+     * Reads the next line without its line terminator, which is either
+     * {@code \n} or {@code \r\n}.
+     * 
+     * @return the line, or {@code null} if the stream has ended.
+     * @throws IOException if the stream can't be read or the line is too long.
+     */
+    public String readLine() throws IOException {
+        int length = 0;
+        while (true) {
+            if (this.position == this.limit) {
+                this.limit = this.input.read(this.buffer);
+                this.position = 0;
+                if (this.limit < 0) {
+                    this.limit = 0;
+                    return length == 0 ? null : this.decode(length);
+                }
+            }
+
+            final byte current = this.buffer[this.position++];
+            if (current == '\n') {
+                return this.decode(length);
+            }
+
+            if (length == this.line.length) {
+                if (length == MAX_LINE_LENGTH) {
+                    throw new IOException(ErrorMessages.LINE_TOO_LONG);
+                }
+                this.line = Arrays.copyOf(this.line, Math.min(2 * length, MAX_LINE_LENGTH));
+            }
+            this.line[length++] = current;
+        }
+    }
+
+    private String decode(final int length) {
+        final int end = length > 0 && this.line[length - 1] == '\r' ? length - 1 : length;
+        return new String(this.line, 0, end, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,260 @@
+package edu.kit.informatik.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import edu.kit.informatik.config.ErrorMessages;
+
+/**
+ * A client of the {@link NioGameServer}, whose {@link GameDialogue} is driven by
+ * the selector of its worker.
+ * Input is split into lines in place, and responses are encoded straight into
+ * pooled buffers, which are sent with a single gathering write. While a
+ * response is pending, no more input is read, so a slow client can't make the
+ * server buffer an unbounded amount of output.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+class NioConnection {
+
+    private static final int INITIAL_LINE_LENGTH = 1 << 6;
+    private static final int MAX_LINE_LENGTH = 1 << 12;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final SelectionKey key;
+    private final SocketChannel channel;
+    private final BufferPool pool;
+    private final AtomicInteger sessionCount;
+    private final GameDialogue dialogue;
+
+    private byte[] line;
+    private int lineLength;
+
+    // buffers ready to be written, from start to start + count, and the buffer being filled
+    private ByteBuffer[] output;
+    private int outputStart;
+    private int outputCount;
+    private ByteBuffer fillBuffer;
+
+    private boolean isInputEnded;
+    private boolean isOutputShutdown;
+    private boolean isClosed;
+
+    /**
+     * Instantiates a new {@link NioConnection}.
+     * 
+     * @param key          The key of the channel, registered for reading.
+     * @param pool         The buffer pool of the worker.
+     * @param sessionCount The number of open sessions, which includes this
+     *                     connection until it is closed.
+     */
+    NioConnection(final SelectionKey key, final BufferPool pool, final AtomicInteger sessionCount) {
+        this.key = key;
+        this.channel = (SocketChannel) key.channel();
+        this.pool = pool;
+        this.sessionCount = sessionCount;
+        sessionCount.incrementAndGet();
+        this.dialogue = new GameDialogue();
+        this.line = new byte[INITIAL_LINE_LENGTH];
+        this.output = new ByteBuffer[2];
+    }
+
+    /**
+     * Sends the greeting of the dialogue.
+     * 
+     * @throws IOException if the channel can't be written.
+     */
+    void start() throws IOException {
+        this.respond(this.dialogue.start());
+        this.flush();
+    }
+
+    /**
+     * Reads the available input, handles all complete lines and sends the
+     * responses. Input after the end of the game is discarded until the client
+     * closes the connection.
+     * 
+     * @param readBuffer The read buffer of the worker.
+     * @throws IOException if the channel fails or a line is too long.
+     */
+    void read(final ByteBuffer readBuffer) throws IOException {
+        readBuffer.clear();
+        final int read = this.channel.read(readBuffer);
+        if (read < 0) {
+            // a last line may lack its terminator
+            if (this.lineLength > 0 && !this.dialogue.isFinished()) {
+                this.respond(this.dialogue.handle(this.decodeLine()));
+            }
+            this.isInputEnded = true;
+            this.flush();
+            return;
+        }
+
+        readBuffer.flip();
+        while (readBuffer.hasRemaining() && !this.dialogue.isFinished()) {
+            final byte current = readBuffer.get();
+            if (current == '\n') {
+                this.respond(this.dialogue.handle(this.decodeLine()));
+                this.lineLength = 0;
+                continue;
+            }
+
+            if (this.lineLength == this.line.length) {
+                if (this.lineLength == MAX_LINE_LENGTH) {
+                    throw new IOException(ErrorMessages.LINE_TOO_LONG);
+                }
+                this.line = Arrays.copyOf(this.line, Math.min(2 * this.lineLength, MAX_LINE_LENGTH));
+            }
+            this.line[this.lineLength++] = current;
+        }
+        this.flush();
+    }
+
+    private String decodeLine() {
+        final int end = this.lineLength > 0 && this.line[this.lineLength - 1] == '\r'
+                ? this.lineLength - 1
+                : this.lineLength;
+        return new String(this.line, 0, end, StandardCharsets.UTF_8);
+    }
+
+    private void respond(final String response) {
+        if (response != null) {
+            this.encode(response);
+            this.encode(LINE_SEPARATOR);
+        }
+    }
+
+    /**
+     * Encodes the text as UTF-8 into the fill buffer. ASCII characters, which
+     * make up all output of the game except player names, are put directly.
+     */
+    private void encode(final String text) {
+        int index = 0;
+        while (index < text.length()) {
+            final char character = text.charAt(index);
+            if (character < 0x80) {
+                this.nextByte().put((byte) character);
+                index++;
+                continue;
+            }
+
+            final int codePoint = text.codePointAt(index);
+            index += Character.charCount(codePoint);
+            if (codePoint < 0x800) {
+                this.nextByte().put((byte) (0xC0 | codePoint >> 6));
+            } else {
+                if (codePoint < 0x10000) {
+                    this.nextByte().put((byte) (0xE0 | codePoint >> 12));
+                } else {
+                    this.nextByte().put((byte) (0xF0 | codePoint >> 18));
+                    this.nextByte().put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                }
+                this.nextByte().put((byte) (0x80 | codePoint >> 6 & 0x3F));
+            }
+            this.nextByte().put((byte) (0x80 | codePoint & 0x3F));
+        }
+    }
+
+    /**
+     * Returns a fill buffer with space for at least one more byte.
+     */
+    private ByteBuffer nextByte() {
+        if (this.fillBuffer == null) {
+            this.fillBuffer = this.pool.acquire();
+        } else if (!this.fillBuffer.hasRemaining()) {
+            this.queueFillBuffer();
+            this.fillBuffer = this.pool.acquire();
+        }
+        return this.fillBuffer;
+    }
+
+    private void queueFillBuffer() {
+        if (this.outputStart + this.outputCount == this.output.length) {
+            System.arraycopy(this.output, this.outputStart, this.output, 0, this.outputCount);
+            this.outputStart = 0;
+            if (this.outputCount == this.output.length) {
+                this.output = Arrays.copyOf(this.output, 2 * this.output.length);
+            }
+        }
+
+        this.fillBuffer.flip();
+        this.output[this.outputStart + this.outputCount++] = this.fillBuffer;
+        this.fillBuffer = null;
+    }
+
+    /**
+     * Writes as much of the pending output as the channel accepts. The
+     * connection waits for the channel to become writable if output remains and
+     * for input otherwise. Once all output is written, the connection is closed
+     * if the client has closed its side.
+     * 
+     * @throws IOException if the channel can't be written.
+     */
+    void flush() throws IOException {
+        if (this.isClosed) {
+            return;
+        }
+        if (this.fillBuffer != null && this.fillBuffer.position() > 0) {
+            this.queueFillBuffer();
+        } else if (this.fillBuffer != null) {
+            // idle connections don't hold any buffer
+            this.pool.release(this.fillBuffer);
+            this.fillBuffer = null;
+        }
+
+        if (this.outputCount > 0) {
+            this.channel.write(this.output, this.outputStart, this.outputCount);
+            while (this.outputCount > 0 && !this.output[this.outputStart].hasRemaining()) {
+                this.pool.release(this.output[this.outputStart]);
+                this.output[this.outputStart++] = null;
+                this.outputCount--;
+            }
+            if (this.outputCount > 0) {
+                this.key.interestOps(SelectionKey.OP_WRITE);
+                return;
+            }
+            this.outputStart = 0;
+        }
+
+        if (this.isInputEnded) {
+            this.close();
+            return;
+        }
+        if (this.dialogue.isFinished() && !this.isOutputShutdown) {
+            this.channel.shutdownOutput();
+            this.isOutputShutdown = true;
+        }
+        this.key.interestOps(SelectionKey.OP_READ);
+    }
+
+    /**
+     * Closes the connection and returns its buffers to the pool.
+     */
+    void close() {
+        if (this.isClosed) {
+            return;
+        }
+        this.isClosed = true;
+        this.sessionCount.decrementAndGet();
+
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            // the connection is gone either way
+        }
+        for (int i = 0; i < this.outputCount; i++) {
+            this.pool.release(this.output[this.outputStart + i]);
+        }
+        if (this.fillBuffer != null) {
+            this.pool.release(this.fillBuffer);
+        }
+        this.outputCount = 0;
+        this.fillBuffer = null;
+    }
+}
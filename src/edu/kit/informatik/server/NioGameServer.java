@@ -0,0 +1,102 @@
+package edu.kit.informatik.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A local TCP server hosting independent games of queens farming with a fixed
+ * number of threads. Unlike the {@link GameServer}, connections don't get a
+ * thread of their own, but are spread over a few selector loops, which handle
+ * every command right when its line has been read. This keeps the thread
+ * count and the tail latency predictable, as long as no single command takes
+ * long.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class NioGameServer implements Closeable {
+
+    private static final int BACKLOG = 1 << 10;
+
+    private final ServerSocketChannel serverChannel;
+    private final AtomicInteger sessionCount;
+    private final NioWorker[] workers;
+
+    /**
+     * Instantiates a new {@link NioGameServer} listening on the loopback address.
+     * 
+     * @param port        The port to listen on, {@code 0} for any free port.
+     * @param workerCount The number of threads serving the connections.
+     * @throws IOException if the port can't be bound.
+     */
+    public NioGameServer(final int port, final int workerCount) throws IOException {
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        this.serverChannel.configureBlocking(false);
+        this.sessionCount = new AtomicInteger();
+
+        this.workers = new NioWorker[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            this.workers[i] = new NioWorker(this.serverChannel, this.sessionCount);
+        }
+    }
+
+    /**
+     * Returns the port the server listens on.
+     * 
+     * @return the local port.
+     */
+    public int getPort() {
+        return this.serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Returns the number of open sessions.
+     * 
+     * @return the number of connected clients.
+     */
+    public int getSessionCount() {
+        return this.sessionCount.get();
+    }
+
+    /**
+     * Serves connections until the server is closed. The first worker runs on the
+     * calling thread, every other worker on a thread of its own.
+     */
+    public void serve() {
+        final Thread[] threads = new Thread[this.workers.length - 1];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(this.workers[i + 1], "nio-worker-" + (i + 1));
+            threads[i].start();
+        }
+
+        this.workers[0].run();
+
+        for (final Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops all workers, which close their connections, and stops accepting
+     * connections.
+     * 
+     * @throws IOException if the server channel can't be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        for (final NioWorker worker : this.workers) {
+            worker.stop();
+        }
+        this.serverChannel.close();
+    }
+}
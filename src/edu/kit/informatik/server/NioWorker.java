@@ -0,0 +1,167 @@
+package edu.kit.informatik.server;
+
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A selector loop of the {@link NioGameServer}. Every worker accepts
+ * connections on the shared server channel and serves them on its own thread
+ * until they are closed, so connections need no synchronization.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+class NioWorker implements Runnable {
+
+    private static final int BUFFER_SIZE = 1 << 12;
+
+    private final ServerSocketChannel serverChannel;
+    private final AtomicInteger sessionCount;
+    private final Selector selector;
+    private final BufferPool pool;
+    private final ByteBuffer readBuffer;
+    private volatile boolean isRunning;
+
+    /**
+     * Instantiates a new {@link NioWorker} accepting connections of the given
+     * channel.
+     * 
+     * @param serverChannel The non-blocking server channel.
+     * @param sessionCount  The number of open sessions of all workers.
+     * @throws IOException if the selector can't be opened.
+     */
+    NioWorker(final ServerSocketChannel serverChannel, final AtomicInteger sessionCount) throws IOException {
+        this.serverChannel = serverChannel;
+        this.sessionCount = sessionCount;
+        this.selector = Selector.open();
+        this.pool = new BufferPool(BUFFER_SIZE);
+        this.readBuffer = this.pool.acquire();
+        this.isRunning = true;
+
+        serverChannel.register(this.selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * Serves connections until the worker is stopped, then closes them.
+     */
+    @Override
+    public void run() {
+        try {
+            while (this.isRunning) {
+                this.selector.select();
+
+                final Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    this.handle(key);
+                }
+            }
+        } catch (IOException e) {
+            // the selector has failed, so the connections can't be served anymore
+        } finally {
+            this.closeAll();
+        }
+    }
+
+    /**
+     * Serves a ready connection. If the connection fails or its client sends
+     * input the game rejects, only that connection is closed, so one client
+     * can't stop the worker. Any other exception closes the connection as well
+     * and is passed on.
+     */
+    private void handle(final SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            this.accept();
+            return;
+        }
+
+        final NioConnection connection = (NioConnection) key.attachment();
+        boolean isServed = false;
+        try {
+            if (key.isReadable()) {
+                connection.read(this.readBuffer);
+            } else if (key.isWritable()) {
+                connection.flush();
+            }
+            isServed = true;
+        } catch (IOException | IllegalArgumentException e) {
+            connection.close();
+            isServed = true;
+        } finally {
+            if (!isServed) {
+                connection.close();
+            }
+        }
+    }
+
+    private void accept() {
+        final SocketChannel channel;
+        try {
+            channel = this.serverChannel.accept();
+        } catch (IOException e) {
+            // the client has given up, or the server is closing
+            return;
+        }
+        if (channel == null) {
+            // accepted by another worker
+            return;
+        }
+
+        NioConnection connection = null;
+        try {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+            final SelectionKey key = channel.register(this.selector, SelectionKey.OP_READ);
+            connection = new NioConnection(key, this.pool, this.sessionCount);
+            key.attach(connection);
+            connection.start();
+        } catch (IOException e) {
+            if (connection != null) {
+                connection.close();
+            } else {
+                closeQuietly(channel);
+            }
+        }
+    }
+
+    private static void closeQuietly(final SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // the connection is gone either way
+        }
+    }
+
+    /**
+     * Stops the worker, which then closes all of its connections.
+     */
+    void stop() {
+        this.isRunning = false;
+        this.selector.wakeup();
+    }
+
+    private void closeAll() {
+        for (final SelectionKey key : this.selector.keys()) {
+            if (key.attachment() instanceof NioConnection) {
+                ((NioConnection) key.attachment()).close();
+            }
+        }
+        try {
+            this.selector.close();
+        } catch (IOException e) {
+            // nothing left to release
+        }
+    }
+}
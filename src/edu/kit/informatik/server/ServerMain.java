@@ -0,0 +1,70 @@
+package edu.kit.informatik.server;
+
+import java.io.IOException;
+
+import edu.kit.informatik.config.ErrorMessages;
+
+/**
+ * The entry point of the game server.
+ * Expects the arguments {@code [--nio] <port>} and hosts games on the loopback
+ * address until the process is stopped. With {@code --nio}, the games are
+ * served by a {@link NioGameServer} with one selector loop per core instead of
+ * a {@link GameServer} with a thread per connection.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public final class ServerMain {
+
+    private static final String NIO_ARGUMENT = "--nio";
+
+    private ServerMain() {
+        throw new AssertionError(ErrorMessages.UTILITY_CLASS_INSTANTIATION);
+    }
+
+    /**
+     * The entry point of the server.
+     * 
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        final boolean isNio = args.length == 2 && NIO_ARGUMENT.equals(args[0]);
+        if (args.length != 1 && !isNio) {
+            System.err.println(ErrorMessages.ILLEGAL_SERVER_ARGS);
+            return;
+        }
+
+        final int port;
+        try {
+            port = Integer.parseInt(args[args.length - 1]);
+        } catch (NumberFormatException e) {
+            System.err.println(ErrorMessages.INPUT_NOT_NUMBER);
+            return;
+        }
+
+        try {
+            if (isNio) {
+                serveNio(port);
+            } else {
+                serve(port);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println(ErrorMessages.SERVER_NOT_STARTED);
+        }
+    }
+
+    private static void serve(final int port) throws IOException {
+        try (GameServer server = new GameServer(port)) {
+            System.out.println(String.format("Listening on port %d", server.getPort()));
+            server.serve();
+        }
+    }
+
+    private static void serveNio(final int port) throws IOException {
+        final int workerCount = Runtime.getRuntime().availableProcessors();
+        try (NioGameServer server = new NioGameServer(port, workerCount)) {
+            System.out.println(String.format("Listening on port %d", server.getPort()));
+            server.serve();
+        }
+    }
+}
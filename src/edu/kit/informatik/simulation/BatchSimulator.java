@@ -0,0 +1,131 @@
+package edu.kit.informatik.simulation;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+import edu.kit.informatik.game.QueensFarming;
+import edu.kit.informatik.ui.CommandHandler;
+
+/**
+ * Runs many games of queens farming without any user interface. The games are
+ * distributed over a {@link ForkJoinPool}, but every single game is created,
+ * played and evaluated on one thread, so the game model needs no
+ * synchronization.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class BatchSimulator {
+
+    private static final int SEQUENTIAL_THRESHOLD = 8;
+
+    private final ForkJoinPool pool;
+    private final Function<GameSpec, CommandSource> sourceFactory;
+
+    /**
+     * Instantiates a new {@link BatchSimulator} running on the common pool, which
+     * uses all available cores.
+     * 
+     * @param sourceFactory Creates a new command source for every game.
+     */
+    public BatchSimulator(final Function<GameSpec, CommandSource> sourceFactory) {
+        this(ForkJoinPool.commonPool(), sourceFactory);
+    }
+
+    /**
+     * Instantiates a new {@link BatchSimulator} running on the given pool.
+     * 
+     * @param pool          The pool to run the games on.
+     * @param sourceFactory Creates a new command source for every game.
+     */
+    public BatchSimulator(final ForkJoinPool pool, final Function<GameSpec, CommandSource> sourceFactory) {
+        this.pool = pool;
+        this.sourceFactory = sourceFactory;
+    }
+
+    /**
+     * Plays a single game until it ends or the command source is exhausted. An
+     * exhausted command source quits the game. All output of the game is
+     * discarded.
+     * 
+     * @param spec   The specification of the game.
+     * @param source The source of the commands.
+     * @return the outcome of the game.
+     */
+    public static GameOutcome runGame(final GameSpec spec, final CommandSource source) {
+        final QueensFarming game = spec.createGame();
+        int executedCommands = 0;
+
+        while (game.isActive()) {
+            game.startNextTurn();
+
+            while (game.isTurnRunning()) {
+                final String command = source.nextCommand(game);
+                if (command == null) {
+                    game.quit();
+                    break;
+                }
+
+                CommandHandler.executeCommand(command, game);
+                executedCommands++;
+            }
+        }
+
+        return new GameOutcome(game.getWinners(), spec.getGoldToWin(), executedCommands);
+    }
+
+    /**
+     * Plays all given games in parallel and returns the aggregated outcomes.
+     * 
+     * @param specs The specifications of the games to play.
+     * @return a report of all games.
+     */
+    public SimulationReport run(final List<GameSpec> specs) {
+        final long start = System.nanoTime();
+        final SimulationReport report = this.pool.invoke(new SimulationTask(specs, 0, specs.size()));
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Plays a range of games, splitting the range while it is larger than the
+     * sequential threshold.
+     */
+    private final class SimulationTask extends RecursiveTask<SimulationReport> {
+
+        private static final long serialVersionUID = 2648112037655148017L;
+
+        private final transient List<GameSpec> specs;
+        private final int from;
+        private final int to;
+
+        private SimulationTask(final List<GameSpec> specs, final int from, final int to) {
+            this.specs = specs;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationReport compute() {
+            if (this.to - this.from <= SEQUENTIAL_THRESHOLD) {
+                final SimulationReport report = new SimulationReport();
+                for (int i = this.from; i < this.to; i++) {
+                    final GameSpec spec = this.specs.get(i);
+                    report.add(runGame(spec, BatchSimulator.this.sourceFactory.apply(spec)));
+                }
+                return report;
+            }
+
+            final int middle = (this.from + this.to) >>> 1;
+            final SimulationTask left = new SimulationTask(this.specs, this.from, middle);
+            final SimulationTask right = new SimulationTask(this.specs, middle, this.to);
+            left.fork();
+
+            final SimulationReport report = right.compute();
+            report.merge(left.join());
+            return report;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package edu.kit.informatik.simulation;
+
+import edu.kit.informatik.game.QueensFarming;
+
+/**
+ * A source of commands driving a simulated game of queens farming. Every game
+ * gets its own command source, so implementations don't need to be thread-safe.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public interface CommandSource {
+
+    /**
+     * Returns the next command to execute in the given game.
+     * 
+     * @param game The game the command will be executed in.
+     * @return the next command, or {@code null} if the source is exhausted.
+     */
+    String nextCommand(QueensFarming game);
+}
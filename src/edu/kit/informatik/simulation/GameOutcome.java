@@ -0,0 +1,68 @@
+package edu.kit.informatik.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import edu.kit.informatik.game.player.Player;
+
+/**
+ * Represents the outcome of a single simulated game of queens farming.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class GameOutcome {
+
+    private final List<String> winnerNames;
+    private final boolean goalReached;
+    private final int executedCommands;
+
+    /**
+     * Instantiates a new {@link GameOutcome}.
+     * 
+     * @param winners          The player(s) that won the game.
+     * @param goldToWin        The gold which was needed to win.
+     * @param executedCommands The amount of commands executed in the game.
+     */
+    public GameOutcome(final List<Player> winners, final int goldToWin, final int executedCommands) {
+        final List<String> names = new ArrayList<>(winners.size());
+        boolean someoneReachedGoal = false;
+        for (final Player winner : winners) {
+            names.add(winner.toString());
+            someoneReachedGoal |= winner.getGold() >= goldToWin;
+        }
+
+        this.winnerNames = Collections.unmodifiableList(names);
+        this.goalReached = someoneReachedGoal;
+        this.executedCommands = executedCommands;
+    }
+
+    /**
+     * Returns the names of the player(s) that won the game.
+     * 
+     * @return an unmodifiable list of the winner names.
+     */
+    public List<String> getWinnerNames() {
+        return this.winnerNames;
+    }
+
+    /**
+     * Returns whether the game was won by reaching the gold needed to win, rather
+     * than by having the most gold when the game was quit.
+     * 
+     * @return {@code true} if the goal was reached, {@code false} otherwise.
+     */
+    public boolean isGoalReached() {
+        return this.goalReached;
+    }
+
+    /**
+     * Returns the amount of commands executed in the game.
+     * 
+     * @return the executed commands.
+     */
+    public int getExecutedCommands() {
+        return this.executedCommands;
+    }
+}
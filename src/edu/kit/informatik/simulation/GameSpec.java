@@ -0,0 +1,77 @@
+package edu.kit.informatik.simulation;
+
+import edu.kit.informatik.game.QueensFarming;
+
+/**
+ * Describes the setup of a single game of queens farming.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class GameSpec {
+
+    private final String[] playerNames;
+    private final int goldAtStart;
+    private final int goldToWin;
+    private final long seed;
+
+    /**
+     * Instantiates a new {@link GameSpec}.
+     * 
+     * @param playerNames array with names of all players
+     * @param goldAtStart gold at the start of the game
+     * @param goldToWin   gold which is needed to win
+     * @param seed        seed for shuffling tile stack
+     */
+    public GameSpec(final String[] playerNames, final int goldAtStart, final int goldToWin, final long seed) {
+        this.playerNames = playerNames.clone();
+        this.goldAtStart = goldAtStart;
+        this.goldToWin = goldToWin;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the names of all players.
+     * 
+     * @return a copy of the player names.
+     */
+    public String[] getPlayerNames() {
+        return this.playerNames.clone();
+    }
+
+    /**
+     * Returns the gold every player has at the start of the game.
+     * 
+     * @return gold at start.
+     */
+    public int getGoldAtStart() {
+        return this.goldAtStart;
+    }
+
+    /**
+     * Returns the gold needed to win the game.
+     * 
+     * @return gold to win.
+     */
+    public int getGoldToWin() {
+        return this.goldToWin;
+    }
+
+    /**
+     * Returns the seed used to shuffle the tile stack.
+     * 
+     * @return the seed.
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Creates a new {@link QueensFarming} game from this specification.
+     * 
+     * @return a new game.
+     */
+    public QueensFarming createGame() {
+        return new QueensFarming(this.playerNames, this.goldAtStart, this.goldToWin, this.seed);
+    }
+}
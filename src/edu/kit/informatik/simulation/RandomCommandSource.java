@@ -0,0 +1,82 @@
+package edu.kit.informatik.simulation;
+
+import java.util.Random;
+
+import edu.kit.informatik.game.QueensFarming;
+import edu.kit.informatik.game.type.VegetableType;
+
+/**
+ * A {@link CommandSource} that issues random, syntactically valid commands. The
+ * coordinates are chosen close to the barn, so that a reasonable share of the
+ * commands succeed.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class RandomCommandSource implements CommandSource {
+
+    private static final int COORDINATE_RANGE = 3;
+    private static final int MAX_HARVEST = 4;
+    private static final int COMMAND_TYPES = 8;
+
+    private final Random random;
+    private final VegetableType[] vegetables;
+    private int remainingCommands;
+
+    /**
+     * Instantiates a new {@link RandomCommandSource}.
+     * 
+     * @param seed        The seed of the random generator.
+     * @param maxCommands The amount of commands after which the source is
+     *                    exhausted.
+     */
+    public RandomCommandSource(final long seed, final int maxCommands) {
+        this.random = new Random(seed);
+        this.vegetables = VegetableType.values();
+        this.remainingCommands = maxCommands;
+    }
+
+    private int randomCoordinate() {
+        return this.random.nextInt(2 * COORDINATE_RANGE + 1) - COORDINATE_RANGE;
+    }
+
+    private String randomVegetable() {
+        return this.vegetables[this.random.nextInt(this.vegetables.length)].getSingular();
+    }
+
+    @Override
+    public String nextCommand(QueensFarming game) {
+        if (this.remainingCommands == 0) {
+            return null;
+        }
+        this.remainingCommands--;
+
+        switch (this.random.nextInt(COMMAND_TYPES)) {
+            case 0:
+                return "end turn";
+
+            case 1:
+                return "sell all";
+
+            case 2:
+                return "sell " + this.randomVegetable();
+
+            case 3:
+                return "buy vegetable " + this.randomVegetable();
+
+            case 4:
+                return "buy land " + this.randomCoordinate() + " " + (this.random.nextInt(COORDINATE_RANGE) + 1);
+
+            case 5:
+                return "harvest " + this.randomCoordinate() + " " + this.random.nextInt(COORDINATE_RANGE + 1) + " "
+                        + (this.random.nextInt(MAX_HARVEST) + 1);
+
+            case 6:
+                return "plant " + this.randomCoordinate() + " " + this.random.nextInt(COORDINATE_RANGE + 1) + " "
+                        + this.randomVegetable();
+
+            default:
+                return "show board";
+        }
+    }
+}
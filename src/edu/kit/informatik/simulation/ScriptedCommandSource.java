@@ -0,0 +1,35 @@
+package edu.kit.informatik.simulation;
+
+import java.util.List;
+
+import edu.kit.informatik.game.QueensFarming;
+
+/**
+ * A {@link CommandSource} that replays a fixed list of commands.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class ScriptedCommandSource implements CommandSource {
+
+    private final List<String> commands;
+    private int position;
+
+    /**
+     * Instantiates a new {@link ScriptedCommandSource}.
+     * 
+     * @param commands The commands to replay in order.
+     */
+    public ScriptedCommandSource(final List<String> commands) {
+        this.commands = commands;
+        this.position = 0;
+    }
+
+    @Override
+    public String nextCommand(QueensFarming game) {
+        if (this.position == this.commands.size()) {
+            return null;
+        }
+        return this.commands.get(this.position++);
+    }
+}
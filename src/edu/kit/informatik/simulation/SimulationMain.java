@@ -0,0 +1,89 @@
+package edu.kit.informatik.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.kit.informatik.config.ErrorMessages;
+
+/**
+ * The entry point of the headless batch simulation.
+ * Expects the arguments {@code <games> <players> <goldAtStart> <goldToWin>
+ * <seed> <commandsPerGame>}. Game {@code i} uses the seed {@code seed + i} for
+ * both its tile stack and its random command source.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public final class SimulationMain {
+
+    private static final int ARGS_COUNT = 6;
+    private static final int ALPHABET_SIZE = 26;
+
+    private SimulationMain() {
+        throw new AssertionError(ErrorMessages.UTILITY_CLASS_INSTANTIATION);
+    }
+
+    /**
+     * The entry point of the simulation.
+     * 
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        if (args.length != ARGS_COUNT) {
+            System.err.println(ErrorMessages.ILLEGAL_SIMULATION_ARGS);
+            return;
+        }
+
+        final int gameCount;
+        final int playerCount;
+        final int goldAtStart;
+        final int goldToWin;
+        final long seed;
+        final int commandsPerGame;
+        try {
+            gameCount = Integer.parseInt(args[0]);
+            playerCount = Integer.parseInt(args[1]);
+            goldAtStart = Integer.parseInt(args[2]);
+            goldToWin = Integer.parseInt(args[3]);
+            seed = Long.parseLong(args[4]);
+            commandsPerGame = Integer.parseInt(args[5]);
+        } catch (NumberFormatException e) {
+            System.err.println(ErrorMessages.INPUT_NOT_NUMBER);
+            return;
+        }
+        if (gameCount < 1 || playerCount < 1 || goldToWin < 1 || commandsPerGame < 1) {
+            System.err.println(ErrorMessages.INPUT_SMALLER_ONE);
+            return;
+        }
+        if (goldAtStart < 0) {
+            System.err.println(ErrorMessages.INPUT_SMALLER_ZERO);
+            return;
+        }
+
+        final String[] playerNames = new String[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            playerNames[i] = playerName(i);
+        }
+
+        final List<GameSpec> specs = new ArrayList<>(gameCount);
+        for (int i = 0; i < gameCount; i++) {
+            specs.add(new GameSpec(playerNames, goldAtStart, goldToWin, seed + i));
+        }
+
+        final BatchSimulator simulator = new BatchSimulator(
+                spec -> new RandomCommandSource(spec.getSeed(), commandsPerGame));
+        System.out.println(simulator.run(specs));
+    }
+
+    private static String playerName(final int index) {
+        // player names may only contain letters, so the index is written in base 26
+        final StringBuilder sb = new StringBuilder();
+        int remaining = index;
+        do {
+            sb.append((char) ('A' + remaining % ALPHABET_SIZE));
+            remaining = remaining / ALPHABET_SIZE - 1;
+        } while (remaining >= 0);
+
+        return "Player" + sb.reverse();
+    }
+}
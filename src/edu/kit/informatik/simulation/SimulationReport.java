@@ -0,0 +1,154 @@
+package edu.kit.informatik.simulation;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregates the outcomes of many simulated games of queens farming. A report is
+ * not thread-safe; partial reports created on different threads are combined
+ * with {@link #merge(SimulationReport)}.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class SimulationReport {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, Integer> winsByPlayer;
+    private int gameCount;
+    private int goalReachedCount;
+    private int sharedWinCount;
+    private long executedCommands;
+    private long elapsedNanos;
+
+    /**
+     * Instantiates a new, empty {@link SimulationReport}.
+     */
+    public SimulationReport() {
+        this.winsByPlayer = new TreeMap<>();
+    }
+
+    /**
+     * Adds the outcome of a single game to the report.
+     * 
+     * @param outcome The outcome to add.
+     */
+    public void add(final GameOutcome outcome) {
+        this.gameCount++;
+        this.executedCommands += outcome.getExecutedCommands();
+        if (outcome.isGoalReached()) {
+            this.goalReachedCount++;
+        }
+        if (outcome.getWinnerNames().size() > 1) {
+            this.sharedWinCount++;
+        }
+        for (final String winner : outcome.getWinnerNames()) {
+            this.winsByPlayer.merge(winner, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Adds all outcomes of another report to this report.
+     * 
+     * @param other The report to merge into this one.
+     */
+    public void merge(final SimulationReport other) {
+        this.gameCount += other.gameCount;
+        this.executedCommands += other.executedCommands;
+        this.goalReachedCount += other.goalReachedCount;
+        this.sharedWinCount += other.sharedWinCount;
+        for (final Map.Entry<String, Integer> entry : other.winsByPlayer.entrySet()) {
+            this.winsByPlayer.merge(entry.getKey(), entry.getValue(), Integer::sum);
+        }
+    }
+
+    /**
+     * Sets the wall clock time needed to simulate all games of the report.
+     * 
+     * @param elapsedNanos The elapsed time in nanoseconds.
+     */
+    public void setElapsedNanos(final long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the amount of simulated games.
+     * 
+     * @return the game count.
+     */
+    public int getGameCount() {
+        return this.gameCount;
+    }
+
+    /**
+     * Returns the amount of games in which at least one player reached the gold
+     * needed to win.
+     * 
+     * @return the amount of games won by reaching the goal.
+     */
+    public int getGoalReachedCount() {
+        return this.goalReachedCount;
+    }
+
+    /**
+     * Returns the amount of games won by more than one player.
+     * 
+     * @return the amount of shared wins.
+     */
+    public int getSharedWinCount() {
+        return this.sharedWinCount;
+    }
+
+    /**
+     * Returns the total amount of commands executed over all games.
+     * 
+     * @return the executed commands.
+     */
+    public long getExecutedCommands() {
+        return this.executedCommands;
+    }
+
+    /**
+     * Returns the amount of won games per player name. A shared win counts for
+     * every player that won.
+     * 
+     * @return a map from player name to the amount of won games.
+     */
+    public Map<String, Integer> getWinsByPlayer() {
+        return this.winsByPlayer;
+    }
+
+    /**
+     * Returns the throughput of the simulation.
+     * 
+     * @return the simulated games per second, or 0 if no time was recorded.
+     */
+    public double getGamesPerSecond() {
+        if (this.elapsedNanos == 0) {
+            return 0;
+        }
+        return this.gameCount * NANOS_PER_SECOND / this.elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Simulated %d games in %.1f ms (%.1f games/s).", this.gameCount,
+                this.elapsedNanos / NANOS_PER_MILLI, this.getGamesPerSecond()));
+        sb.append(System.lineSeparator());
+        sb.append(String.format("Executed commands: %d", this.executedCommands));
+        sb.append(System.lineSeparator());
+        sb.append(String.format("Goal reached: %d", this.goalReachedCount));
+        sb.append(System.lineSeparator());
+        sb.append(String.format("Shared wins: %d", this.sharedWinCount));
+
+        for (final Map.Entry<String, Integer> entry : this.winsByPlayer.entrySet()) {
+            sb.append(System.lineSeparator());
+            sb.append(String.format("%s has won %d times.", entry.getKey(), entry.getValue()));
+        }
+
+        return sb.toString();
+    }
+}
@@ -1,27 +1,30 @@
 package edu.kit.informatik.ui;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.EnumMap;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import edu.kit.informatik.config.ErrorMessages;
 import edu.kit.informatik.game.GameException;
 import edu.kit.informatik.game.QueensFarming;
 import edu.kit.informatik.game.type.VegetableType;
-import edu.kit.informatik.util.MapUtil;
+import edu.kit.informatik.persistence.CommandJournal;
+import edu.kit.informatik.util.ByteBufferUtil;
 
 /**
  * Enum of all available commands in queens farming.
+ * Every command that changes the game has a fixed journal code, with which it
+ * and its arguments are recorded in a {@link CommandJournal} and replayed.
  */
 public enum CommandHandler {
 
     /**
      * Ends the turn of the current player.
      */
-    END_TURN("end turn") {
+    END_TURN("end turn", 1) {
         @Override
-        public String execute(Matcher input, QueensFarming game) {
+        public String execute(CommandTokenizer input, QueensFarming game) {
             return game.endTurn();
         }
     },
@@ -31,7 +34,7 @@ public enum CommandHandler {
      */
     SHOW_BARN("show barn") {
         @Override
-        public String execute(Matcher input, QueensFarming game) {
+        public String execute(CommandTokenizer input, QueensFarming game) {
             return game.showBarn();
         }
     },
@@ -41,7 +44,7 @@ public enum CommandHandler {
      */
     SHOW_BOARD("show board") {
         @Override
-        public String execute(Matcher input, QueensFarming game) {
+        public String execute(CommandTokenizer input, QueensFarming game) {
             return game.showBoard();
         }
     },
@@ -51,17 +54,37 @@ public enum CommandHandler {
      */
     SHOW_MARKET("show market") {
         @Override
-        public String execute(Matcher input, QueensFarming game) {
+        public String execute(CommandTokenizer input, QueensFarming game) {
             return game.showMarket();
         }
     },
 
+    /**
+     * Returns the prices and sold amounts of the past turns.
+     */
+    SHOW_MARKET_HISTORY("show market history") {
+        @Override
+        public String execute(CommandTokenizer input, QueensFarming game) {
+            return game.showMarketHistory();
+        }
+    },
+
+    /**
+     * Returns the standings of all players.
+     */
+    SHOW_LEADERBOARD("show leaderboard") {
+        @Override
+        public String execute(CommandTokenizer input, QueensFarming game) {
+            return game.showLeaderboard();
+        }
+    },
+
     /**
      * Sells all vegetables of the current player.
      */
-    SELL_ALL("sell all") {
+    SELL_ALL("sell all", 2) {
         @Override
-        public String execute(Matcher input, QueensFarming game) {
+        public String execute(CommandTokenizer input, QueensFarming game) {
             return game.sellAll();
         }
     },
@@ -69,18 +92,35 @@ public enum CommandHandler {
     /**
      * Sells the given vegetables from the current player if possible.
      */
-    SELL("sell( ((carrot)|(mushroom)|(tomato)|(salad)))*") {
+    SELL("sell", 3) {
+        @Override
+        boolean readArguments(CommandTokenizer input) {
+            return input.readVegetables();
+        }
+
         @Override
-        public String execute(Matcher input, QueensFarming game) {
-            String[] parameters = input.group().split("\s");
+        public String execute(CommandTokenizer input, QueensFarming game) {
+            final int[] vegetableCounts = input.getVegetableCounts();
             Map<VegetableType, Integer> vegetableList = new EnumMap<>(VegetableType.class);
-            MapUtil.setVegetablesToValue(vegetableList, 0);
+            for (final VegetableType vegetableType : VEGETABLE_TYPES) {
+                vegetableList.put(vegetableType, vegetableCounts[vegetableType.ordinal()]);
+            }
+
+            return game.sell(vegetableList);
+        }
 
-            for (int i = 1; i < parameters.length; i++) {
-                VegetableType vegetableType = VegetableType.fromString(parameters[i]);
+        @Override
+        void writeArguments(CommandTokenizer input, ByteBuffer record) {
+            for (final int vegetableCount : input.getVegetableCounts()) {
+                ByteBufferUtil.putVarInt(record, vegetableCount);
+            }
+        }
 
-                final int currentCount = vegetableList.get(vegetableType);
-                vegetableList.put(vegetableType, currentCount + 1);
+        @Override
+        String replay(ByteBuffer record, QueensFarming game) {
+            Map<VegetableType, Integer> vegetableList = new EnumMap<>(VegetableType.class);
+            for (final VegetableType vegetableType : VEGETABLE_TYPES) {
+                vegetableList.put(vegetableType, ByteBufferUtil.getVarInt(record));
             }
 
             return game.sell(vegetableList);
@@ -90,26 +130,52 @@ public enum CommandHandler {
     /**
      * Buys the given vegetable if possible.
      */
-    BUY_VEGETABLE("buy vegetable ((carrot)|(mushroom)|(tomato)|(salad))") {
+    BUY_VEGETABLE("buy vegetable", 4) {
+        @Override
+        boolean readArguments(CommandTokenizer input) {
+            return input.readVegetable();
+        }
+
+        @Override
+        public String execute(CommandTokenizer input, QueensFarming game) throws GameException {
+            return game.buyVegetable(input.getVegetable());
+        }
+
         @Override
-        public String execute(Matcher input, QueensFarming game) throws GameException {
-            String[] parameters = input.group().split("\s");
-            VegetableType vegetable = VegetableType.fromString(parameters[2]);
+        void writeArguments(CommandTokenizer input, ByteBuffer record) {
+            record.put((byte) input.getVegetable().ordinal());
+        }
 
-            return game.buyVegetable(vegetable);
+        @Override
+        String replay(ByteBuffer record, QueensFarming game) {
+            return game.buyVegetable(VEGETABLE_TYPES[record.get()]);
         }
     },
 
     /**
      * Buys land at the given location if possible.
      */
-    BUY_LAND("buy land( -?[0-9]+){2}") {
+    BUY_LAND("buy land", 5) {
+        @Override
+        boolean readArguments(CommandTokenizer input) {
+            return input.readCoordinates();
+        }
+
         @Override
-        public String execute(Matcher input, QueensFarming game) throws GameException {
-            String[] parameters = input.group().split("\s");
-            int xCoordinate = Integer.parseInt(parameters[2]);
-            int yCoordinate = Integer.parseInt(parameters[3]);
+        public String execute(CommandTokenizer input, QueensFarming game) throws GameException {
+            return game.buyLand(input.getXCoordinate(), input.getYCoordinate());
+        }
 
+        @Override
+        void writeArguments(CommandTokenizer input, ByteBuffer record) {
+            ByteBufferUtil.putVarInt(record, input.getXCoordinate());
+            ByteBufferUtil.putVarInt(record, input.getYCoordinate());
+        }
+
+        @Override
+        String replay(ByteBuffer record, QueensFarming game) {
+            final int xCoordinate = ByteBufferUtil.getVarInt(record);
+            final int yCoordinate = ByteBufferUtil.getVarInt(record);
             return game.buyLand(xCoordinate, yCoordinate);
         }
     },
@@ -117,29 +183,59 @@ public enum CommandHandler {
     /**
      * Harvest the given amount of vegetables from the given location if possible.
      */
-    HARVEST("harvest( -?[0-9]+){2}( [0-9]+)") {
+    HARVEST("harvest", 6) {
         @Override
-        public String execute(Matcher input, QueensFarming game) throws GameException {
-            String[] parameters = input.group().split("\s");
-            int xCoordinate = Integer.parseInt(parameters[1]);
-            int yCoordinate = Integer.parseInt(parameters[2]);
-            int amountToHarvest = Integer.parseInt(parameters[3]);
+        boolean readArguments(CommandTokenizer input) {
+            return input.readCoordinates() && input.readCount();
+        }
 
-            return game.harvest(xCoordinate, yCoordinate, amountToHarvest);
+        @Override
+        public String execute(CommandTokenizer input, QueensFarming game) throws GameException {
+            return game.harvest(input.getXCoordinate(), input.getYCoordinate(), input.getCount());
+        }
+
+        @Override
+        void writeArguments(CommandTokenizer input, ByteBuffer record) {
+            ByteBufferUtil.putVarInt(record, input.getXCoordinate());
+            ByteBufferUtil.putVarInt(record, input.getYCoordinate());
+            ByteBufferUtil.putVarInt(record, input.getCount());
+        }
+
+        @Override
+        String replay(ByteBuffer record, QueensFarming game) {
+            final int xCoordinate = ByteBufferUtil.getVarInt(record);
+            final int yCoordinate = ByteBufferUtil.getVarInt(record);
+            final int count = ByteBufferUtil.getVarInt(record);
+            return game.harvest(xCoordinate, yCoordinate, count);
         }
     },
 
     /**
      * Plants a given vegetable at a given location if possible.
      */
-    PLANT("plant( -?[0-9]+){2} ((carrot)|(mushroom)|(tomato)|(salad))") {
+    PLANT("plant", 7) {
+        @Override
+        boolean readArguments(CommandTokenizer input) {
+            return input.readCoordinates() && input.readVegetable();
+        }
+
         @Override
-        public String execute(Matcher input, QueensFarming game) throws GameException {
-            String[] parameters = input.group().split("\s");
-            int xCoordinate = Integer.parseInt(parameters[1]);
-            int yCoordinate = Integer.parseInt(parameters[2]);
-            VegetableType vegetable = VegetableType.fromString(parameters[3]);
+        public String execute(CommandTokenizer input, QueensFarming game) throws GameException {
+            return game.plant(input.getXCoordinate(), input.getYCoordinate(), input.getVegetable());
+        }
+
+        @Override
+        void writeArguments(CommandTokenizer input, ByteBuffer record) {
+            ByteBufferUtil.putVarInt(record, input.getXCoordinate());
+            ByteBufferUtil.putVarInt(record, input.getYCoordinate());
+            record.put((byte) input.getVegetable().ordinal());
+        }
 
+        @Override
+        String replay(ByteBuffer record, QueensFarming game) {
+            final int xCoordinate = ByteBufferUtil.getVarInt(record);
+            final int yCoordinate = ByteBufferUtil.getVarInt(record);
+            final VegetableType vegetable = VEGETABLE_TYPES[record.get()];
             return game.plant(xCoordinate, yCoordinate, vegetable);
         }
     },
@@ -147,37 +243,134 @@ public enum CommandHandler {
     /**
      * Ends the game.
      */
-    QUIT("quit") {
+    QUIT("quit", 8) {
         @Override
-        public String execute(Matcher input, QueensFarming game) {
+        public String execute(CommandTokenizer input, QueensFarming game) {
             game.quit();
             return null;
         }
     };
 
-    private Pattern pattern;
+    private static final int NOT_JOURNALED = 0;
+    private static final VegetableType[] VEGETABLE_TYPES = VegetableType.values();
+    private static final KeywordNode KEYWORDS = KeywordNode.of(CommandHandler.values());
+    private static final CommandHandler[] COMMANDS_BY_JOURNAL_CODE = groupByJournalCode();
+    private static final ThreadLocal<CommandTokenizer> TOKENIZER = ThreadLocal.withInitial(CommandTokenizer::new);
+    private static final CommandStatistics STATISTICS = new CommandStatistics();
+
+    private final String keyword;
+    private final int journalCode;
+
+    /**
+     * Instantiates a new {@link CommandHandler} enum for a command that doesn't
+     * change the game and therefore isn't journaled.
+     * 
+     * @param keyword the fixed words the command starts with
+     */
+    CommandHandler(String keyword) {
+        this(keyword, NOT_JOURNALED);
+    }
 
     /**
      * Instantiates a new {@link CommandHandler} enum
      * 
-     * @param pattern regex pattern the command should listen to
+     * @param keyword     the fixed words the command starts with
+     * @param journalCode the code of the command in a journal, which must never
+     *                    change
      */
-    CommandHandler(String pattern) {
-        this.pattern = Pattern.compile(pattern);
+    CommandHandler(String keyword, int journalCode) {
+        this.keyword = keyword;
+        this.journalCode = journalCode;
+    }
+
+    /**
+     * Returns the fixed words the command starts with.
+     * 
+     * @return the keyword of the command.
+     */
+    public String getKeyword() {
+        return this.keyword;
+    }
+
+    /**
+     * Returns the statistics of all commands executed so far, in any game. They
+     * are meant for the operator of the process and therefore aren't available
+     * as a command of the game.
+     * 
+     * @return the command statistics.
+     */
+    public static CommandStatistics getStatistics() {
+        return STATISTICS;
+    }
+
+    private static CommandHandler[] groupByJournalCode() {
+        int maxJournalCode = NOT_JOURNALED;
+        for (final CommandHandler command : CommandHandler.values()) {
+            maxJournalCode = Math.max(maxJournalCode, command.journalCode);
+        }
+
+        final CommandHandler[] commandsByJournalCode = new CommandHandler[maxJournalCode + 1];
+        for (final CommandHandler command : CommandHandler.values()) {
+            if (command.journalCode != NOT_JOURNALED) {
+                commandsByJournalCode[command.journalCode] = command;
+            }
+        }
+        return commandsByJournalCode;
+    }
+
+    /**
+     * Reads the arguments following the keyword of the command. Commands without
+     * arguments don't read anything.
+     * 
+     * @param input The tokenizer positioned after the keyword.
+     * @return {@code true} if the arguments are valid, {@code false} otherwise.
+     */
+    boolean readArguments(CommandTokenizer input) {
+        return true;
     }
 
     /**
      * Executes the input.
      * 
-     * @param input The user input.
+     * @param input The tokenizer holding the arguments of the command.
      * @param game  The queens farming game.
      * @return The result message, an error message or {@code null}
      */
-    abstract String execute(Matcher input, QueensFarming game);
+    abstract String execute(CommandTokenizer input, QueensFarming game);
+
+    /**
+     * Writes the arguments of the executed command into its journal record.
+     * Commands without arguments don't write anything.
+     * 
+     * @param input  The tokenizer holding the arguments of the command.
+     * @param record The buffer to write the arguments to.
+     */
+    void writeArguments(CommandTokenizer input, ByteBuffer record) {
+        // no arguments
+    }
+
+    /**
+     * Executes the command again with the arguments of its journal record. All
+     * arguments are read before the game is changed.
+     * 
+     * @param record The buffer positioned at the arguments of the command.
+     * @param game   The queens farming game.
+     * @return The result message or {@code null}
+     */
+    String replay(ByteBuffer record, QueensFarming game) {
+        final CommandTokenizer tokenizer = TOKENIZER.get();
+        tokenizer.reset(this.keyword);
+        return this.execute(tokenizer, game);
+    }
 
     /**
      * Executes the right command and returns the result of the command or an error
      * message.
+     * The command is looked up word by word, so every word of the input is only
+     * compared with the words that may follow, and the input is read in place
+     * without creating any substrings.
+     * The latency and errors of the command are recorded in the
+     * {@link #getStatistics() statistics}.
      * 
      * @param input The user input.
      * @param game  {@link QueensFarming} object,
@@ -185,17 +378,84 @@ public enum CommandHandler {
      *         {@code null}.
      */
     public static String executeCommand(String input, QueensFarming game) {
-        for (CommandHandler command : CommandHandler.values()) {
-            Matcher matcher = command.pattern.matcher(input);
-            if (matcher.matches()) {
-                try {
-                    return command.execute(matcher, game);
-                } catch (GameException e) {
-                    return e.getMessage();
-                }
+        try {
+            return dispatch(input, game, null);
+        } catch (IOException e) {
+            // nothing is written without a journal
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Executes the right command like {@link #executeCommand(String, QueensFarming)}
+     * and records it in the journal if it has been accepted and changed the game.
+     * 
+     * @param input   The user input.
+     * @param game    {@link QueensFarming} object,
+     * @param journal The journal of the game.
+     * @return The response to print to the user or an error message or
+     *         {@code null}.
+     * @throws IOException if the journal can't be written.
+     */
+    public static String executeCommand(String input, QueensFarming game, CommandJournal journal)
+            throws IOException {
+        return dispatch(input, game, journal);
+    }
+
+    /**
+     * Executes the right command, records it in the journal if there is one and
+     * records its latency and errors. An exception other than a
+     * {@link GameException} is counted as an unexpected error and passed on.
+     */
+    private static String dispatch(final String input, final QueensFarming game, final CommandJournal journal)
+            throws IOException {
+        final long startTime = System.nanoTime();
+        final CommandTokenizer tokenizer = TOKENIZER.get();
+        tokenizer.reset(input);
+
+        final CommandHandler command = KEYWORDS.match(tokenizer);
+        if (command == null) {
+            STATISTICS.recordError(null, ErrorMessages.COMMAND_NOT_FOUND);
+            return ErrorMessages.COMMAND_NOT_FOUND;
+        }
+
+        boolean isUnexpected = true;
+        try {
+            final String response = command.execute(tokenizer, game);
+            if (journal != null && command.journalCode != NOT_JOURNALED) {
+                final ByteBuffer record = journal.startRecord();
+                record.put((byte) command.journalCode);
+                command.writeArguments(tokenizer, record);
+            }
+            isUnexpected = false;
+            return response;
+        } catch (GameException e) {
+            isUnexpected = false;
+            STATISTICS.recordError(command, e.getMessage());
+            return e.getMessage();
+        } finally {
+            if (isUnexpected) {
+                STATISTICS.recordError(command, null);
             }
+            STATISTICS.record(command, System.nanoTime() - startTime);
         }
-        return ErrorMessages.COMMAND_NOT_FOUND;
     }
 
+    /**
+     * Replays the journal record at the position of the buffer and moves the
+     * position behind it.
+     * 
+     * @param record The buffer positioned at the record.
+     * @param game   The game to replay the record in.
+     * @return The response of the command, {@code null} if the game is quiet.
+     * @throws GameException            if the command isn't possible in the game.
+     * @throws IllegalArgumentException if the record has an unknown journal code.
+     */
+    public static String replayCommand(ByteBuffer record, QueensFarming game) {
+        final int journalCode = record.get();
+        if (journalCode <= NOT_JOURNALED || journalCode >= COMMANDS_BY_JOURNAL_CODE.length) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_JOURNAL);
+        }
+        return COMMANDS_BY_JOURNAL_CODE[journalCode].replay(record, game);
+    }
 }
@@ -0,0 +1,142 @@
+package edu.kit.informatik.ui;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import edu.kit.informatik.config.ErrorMessages;
+import edu.kit.informatik.util.HistogramSnapshot;
+import edu.kit.informatik.util.LatencyHistogram;
+
+/**
+ * Collects the latency and the errors of every executed command. Errors are
+ * counted per command and per constant of {@link ErrorMessages}; messages that
+ * aren't such a constant are counted together.
+ * Recording is lock-free and doesn't allocate, so the statistics are always
+ * collected.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class CommandStatistics {
+
+    /**
+     * The name under which errors are counted that aren't a constant of
+     * {@link ErrorMessages}
+     */
+    static final String OTHER_ERROR_NAME = "OTHER";
+
+    private static final String[] ERROR_NAMES;
+    private static final Map<String, Integer> ERROR_INDICES;
+
+    static {
+        final List<String> names = new ArrayList<>();
+        final Map<String, Integer> indices = new HashMap<>();
+        for (final Field field : ErrorMessages.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                indices.put(getConstant(field), names.size());
+                names.add(field.getName());
+            }
+        }
+        names.add(OTHER_ERROR_NAME);
+        ERROR_NAMES = names.toArray(new String[0]);
+        ERROR_INDICES = indices;
+    }
+
+    private final LatencyHistogram[] latencies;
+    private final AtomicLongArray commandErrors;
+    private final AtomicLongArray errors;
+
+    /**
+     * Instantiates a new {@link CommandStatistics} without any recorded command.
+     */
+    public CommandStatistics() {
+        this.latencies = new LatencyHistogram[CommandHandler.values().length];
+        for (int i = 0; i < this.latencies.length; i++) {
+            this.latencies[i] = new LatencyHistogram();
+        }
+        this.commandErrors = new AtomicLongArray(CommandHandler.values().length);
+        this.errors = new AtomicLongArray(ERROR_NAMES.length);
+    }
+
+    private static String getConstant(final Field field) {
+        try {
+            return (String) field.get(null);
+        } catch (IllegalAccessException e) {
+            // the fields are public
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Returns the index of an error message.
+     * 
+     * @param errorMessage The error message, {@code null} for an unexpected
+     *                     exception.
+     * @return the index of its constant, or of {@link #OTHER_ERROR_NAME} if it
+     *         isn't a constant.
+     */
+    static int indexOfError(final String errorMessage) {
+        final Integer index = errorMessage == null ? null : ERROR_INDICES.get(errorMessage);
+        return index == null ? ERROR_NAMES.length - 1 : index;
+    }
+
+    /**
+     * Returns the names of the counted errors in the order of their indices.
+     * 
+     * @return the names of the constants, followed by {@link #OTHER_ERROR_NAME}.
+     */
+    static String[] getErrorNames() {
+        return ERROR_NAMES.clone();
+    }
+
+    /**
+     * Records the execution of a command, whether it succeeded or not.
+     * 
+     * @param command The executed command.
+     * @param latency The time the command took in nanoseconds.
+     */
+    public void record(final CommandHandler command, final long latency) {
+        this.latencies[command.ordinal()].record(latency);
+    }
+
+    /**
+     * Records an error.
+     * 
+     * @param command      The command that failed, {@code null} if the input
+     *                     didn't match any command.
+     * @param errorMessage The error message, {@code null} for an unexpected
+     *                     exception, which is counted as
+     *                     {@link #OTHER_ERROR_NAME}.
+     */
+    public void recordError(final CommandHandler command, final String errorMessage) {
+        if (command != null) {
+            this.commandErrors.incrementAndGet(command.ordinal());
+        }
+        this.errors.incrementAndGet(indexOfError(errorMessage));
+    }
+
+    /**
+     * Returns a copy of the statistics. Commands recorded concurrently may or may
+     * not be included.
+     * 
+     * @return the snapshot of the statistics.
+     */
+    public StatisticsSnapshot snapshot() {
+        final HistogramSnapshot[] latencySnapshots = new HistogramSnapshot[this.latencies.length];
+        final long[] commandErrorCounts = new long[this.latencies.length];
+        for (int i = 0; i < this.latencies.length; i++) {
+            latencySnapshots[i] = this.latencies[i].snapshot();
+            commandErrorCounts[i] = this.commandErrors.get(i);
+        }
+
+        final long[] errorCounts = new long[ERROR_NAMES.length];
+        Arrays.setAll(errorCounts, this.errors::get);
+        return new StatisticsSnapshot(latencySnapshots, commandErrorCounts, errorCounts);
+    }
+}
@@ -0,0 +1,304 @@
+package edu.kit.informatik.ui;
+
+import edu.kit.informatik.config.ErrorMessages;
+import edu.kit.informatik.game.GameException;
+import edu.kit.informatik.game.type.VegetableType;
+import edu.kit.informatik.util.NameIndex;
+
+/**
+ * Reads the words of a command one by one straight from the input, without
+ * creating any substrings. The parsed arguments are stored in the tokenizer, so
+ * a tokenizer can be reused for any number of commands.
+ * Every read method consumes the separator in front of the argument and returns
+ * whether the argument was valid. After a failed read the position is undefined
+ * until the next {@link #rewind()}.
+ * Numbers are only parsed when their getter is called. A number outside of the
+ * range of an {@code int} is reported with
+ * {@link ErrorMessages#NUMBER_OUT_OF_RANGE} instead of escaping as a
+ * {@link NumberFormatException} like it did with {@link Integer#parseInt(String)}.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class CommandTokenizer {
+
+    private static final char SEPARATOR = ' ';
+    private static final char MINUS = '-';
+    private static final int RADIX = 10;
+    private static final long MAX_MAGNITUDE = -(long) Integer.MIN_VALUE;
+
+    private final int[] vegetableCounts;
+    private CharSequence input;
+    private int position;
+    private int xCoordinateStart;
+    private int xCoordinateEnd;
+    private int yCoordinateStart;
+    private int yCoordinateEnd;
+    private int countStart;
+    private int countEnd;
+    private VegetableType vegetable;
+
+    /**
+     * Instantiates a new {@link CommandTokenizer} without any input.
+     */
+    public CommandTokenizer() {
+        this.vegetableCounts = new int[VegetableType.values().length];
+        this.reset("");
+    }
+
+    /**
+     * Sets the input to read and moves to its beginning.
+     * 
+     * @param input The command to read.
+     */
+    public void reset(final CharSequence input) {
+        this.input = input;
+        this.rewind();
+    }
+
+    /**
+     * Moves back to the beginning of the input.
+     */
+    public void rewind() {
+        this.position = 0;
+    }
+
+    /**
+     * Checks whether the whole input has been read.
+     * 
+     * @return {@code true} if the whole input has been read, {@code false}
+     *         otherwise.
+     */
+    public boolean isAtEnd() {
+        return this.position == this.input.length();
+    }
+
+    /**
+     * Returns the position up to which the input has been read.
+     * 
+     * @return the position.
+     */
+    public int getPosition() {
+        return this.position;
+    }
+
+    /**
+     * Moves back to a position returned by {@link #getPosition()}.
+     * 
+     * @param position The position to read from next.
+     */
+    public void moveTo(final int position) {
+        this.position = position;
+    }
+
+    /**
+     * Reads the next word of the input, preceded by a separator unless it is the
+     * first word, and looks it up in the given keywords. The position only moves
+     * if the word is a keyword.
+     * 
+     * @param <T>      The type of the keywords.
+     * @param keywords The keywords that may follow.
+     * @return the keyword or {@code null} if the next word isn't a keyword.
+     */
+    public <T> T readKeyword(final NameIndex<T> keywords) {
+        final int start = this.position;
+        if (start > 0 && !this.readSeparator()) {
+            return null;
+        }
+
+        final int end = this.wordEnd();
+        final T keyword = keywords.find(this.input, this.position, end);
+        this.position = keyword == null ? start : end;
+        return keyword;
+    }
+
+    private boolean readSeparator() {
+        if (this.isAtEnd() || this.input.charAt(this.position) != SEPARATOR) {
+            return false;
+        }
+        this.position++;
+        return true;
+    }
+
+    private int wordEnd() {
+        int end = this.position;
+        while (end < this.input.length() && this.input.charAt(end) != SEPARATOR) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Validates a number of the form {@code -?[0-9]+} if signed, otherwise
+     * {@code [0-9]+}. Consumes the separator in front of the number, but not the
+     * number itself.
+     * 
+     * @param signed Whether the number may be negative.
+     * @return the end of the number or {@code -1} if there is no valid number.
+     */
+    private int readNumber(final boolean signed) {
+        if (!this.readSeparator()) {
+            return -1;
+        }
+
+        final int end = this.wordEnd();
+        int digitsStart = this.position;
+        if (signed && digitsStart < end && this.input.charAt(digitsStart) == MINUS) {
+            digitsStart++;
+        }
+        if (digitsStart == end) {
+            return -1;
+        }
+        for (int i = digitsStart; i < end; i++) {
+            final char current = this.input.charAt(i);
+            if (current < '0' || current > '9') {
+                return -1;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Parses a number validated by {@link #readNumber(boolean)}, stopping as soon
+     * as it can't fit into an int anymore.
+     */
+    private int parseNumber(final int start, final int end) {
+        final boolean isNegative = this.input.charAt(start) == MINUS;
+        long magnitude = 0;
+        for (int i = isNegative ? start + 1 : start; i < end; i++) {
+            magnitude = magnitude * RADIX + this.input.charAt(i) - '0';
+            if (magnitude > MAX_MAGNITUDE) {
+                throw new GameException(ErrorMessages.NUMBER_OUT_OF_RANGE);
+            }
+        }
+
+        final long value = isNegative ? -magnitude : magnitude;
+        if (value > Integer.MAX_VALUE) {
+            throw new GameException(ErrorMessages.NUMBER_OUT_OF_RANGE);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads two signed coordinates, each preceded by a separator.
+     * 
+     * @return {@code true} if both coordinates are valid, {@code false} otherwise.
+     */
+    public boolean readCoordinates() {
+        this.xCoordinateStart = this.position + 1;
+        this.xCoordinateEnd = this.readNumber(true);
+        if (this.xCoordinateEnd < 0) {
+            return false;
+        }
+        this.position = this.xCoordinateEnd;
+
+        this.yCoordinateStart = this.position + 1;
+        this.yCoordinateEnd = this.readNumber(true);
+        if (this.yCoordinateEnd < 0) {
+            return false;
+        }
+        this.position = this.yCoordinateEnd;
+        return true;
+    }
+
+    /**
+     * Reads a non-negative count preceded by a separator.
+     * 
+     * @return {@code true} if the count is valid, {@code false} otherwise.
+     */
+    public boolean readCount() {
+        this.countStart = this.position + 1;
+        this.countEnd = this.readNumber(false);
+        if (this.countEnd < 0) {
+            return false;
+        }
+        this.position = this.countEnd;
+        return true;
+    }
+
+    /**
+     * Reads the singular name of a vegetable preceded by a separator.
+     * 
+     * @return {@code true} if the vegetable is valid, {@code false} otherwise.
+     */
+    public boolean readVegetable() {
+        if (!this.readSeparator()) {
+            return false;
+        }
+
+        final int end = this.wordEnd();
+        this.vegetable = VegetableType.fromString(this.input, this.position, end);
+        this.position = end;
+        return this.vegetable != null;
+    }
+
+    /**
+     * Reads the remaining input as any number of vegetables, each preceded by a
+     * separator, and counts them by type.
+     * 
+     * @return {@code true} if all vegetables are valid, {@code false} otherwise.
+     */
+    public boolean readVegetables() {
+        for (int i = 0; i < this.vegetableCounts.length; i++) {
+            this.vegetableCounts[i] = 0;
+        }
+
+        while (!this.isAtEnd()) {
+            if (!this.readVegetable()) {
+                return false;
+            }
+            this.vegetableCounts[this.vegetable.ordinal()]++;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the last read x-coordinate.
+     * 
+     * @return the x-coordinate.
+     * @throws GameException if the coordinate doesn't fit into an int.
+     */
+    public int getXCoordinate() {
+        return this.parseNumber(this.xCoordinateStart, this.xCoordinateEnd);
+    }
+
+    /**
+     * Returns the last read y-coordinate.
+     * 
+     * @return the y-coordinate.
+     * @throws GameException if the coordinate doesn't fit into an int.
+     */
+    public int getYCoordinate() {
+        return this.parseNumber(this.yCoordinateStart, this.yCoordinateEnd);
+    }
+
+    /**
+     * Returns the last read count.
+     * 
+     * @return the count.
+     * @throws GameException if the count doesn't fit into an int.
+     */
+    public int getCount() {
+        return this.parseNumber(this.countStart, this.countEnd);
+    }
+
+    /**
+     * Returns the last read vegetable.
+     * 
+     * @return the vegetable.
+     */
+    public VegetableType getVegetable() {
+        return this.vegetable;
+    }
+
+    /**
+     * Returns the amount of every vegetable read by {@link #readVegetables()},
+     * indexed by the ordinal of the vegetable type. The array is reused for the
+     * next command.
+     * 
+     * @return the vegetable counts.
+     */
+    public int[] getVegetableCounts() {
+        return this.vegetableCounts;
+    }
+}
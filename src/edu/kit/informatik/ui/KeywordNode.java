@@ -0,0 +1,92 @@
+package edu.kit.informatik.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.kit.informatik.util.NameIndex;
+
+/**
+ * A word of the keywords of the {@link CommandHandler}, which may be followed
+ * by the words of its children and may end the keyword of a command. The
+ * keywords form a tree, so a command is found by reading the input word by word
+ * and only comparing every word with the words that may follow.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+final class KeywordNode {
+
+    private static final String WORD_SEPARATOR = " ";
+
+    private final String word;
+    private final List<KeywordNode> childList;
+    private NameIndex<KeywordNode> children;
+    private CommandHandler command;
+
+    private KeywordNode(final String word) {
+        this.word = word;
+        this.childList = new ArrayList<>();
+    }
+
+    /**
+     * Creates the tree of the keywords of the given commands.
+     * 
+     * @param commands The commands, which must have distinct keywords.
+     * @return the root of the tree, which has no word itself.
+     */
+    static KeywordNode of(final CommandHandler[] commands) {
+        final KeywordNode root = new KeywordNode(null);
+        for (final CommandHandler command : commands) {
+            KeywordNode node = root;
+            for (final String word : command.getKeyword().split(WORD_SEPARATOR)) {
+                node = node.getOrAddChild(word);
+            }
+            node.command = command;
+        }
+        root.index();
+        return root;
+    }
+
+    private KeywordNode getOrAddChild(final String childWord) {
+        for (final KeywordNode child : this.childList) {
+            if (child.word.equals(childWord)) {
+                return child;
+            }
+        }
+        final KeywordNode child = new KeywordNode(childWord);
+        this.childList.add(child);
+        return child;
+    }
+
+    private void index() {
+        this.children = new NameIndex<>(this.childList, child -> child.word);
+        for (final KeywordNode child : this.childList) {
+            child.index();
+        }
+    }
+
+    /**
+     * Matches the input following the word of this node with a command whose
+     * arguments are valid. The longest keyword is tried first, and the
+     * tokenizer holds the arguments of the matched command afterwards.
+     * 
+     * @param tokenizer The tokenizer positioned after the word of this node.
+     * @return the matched command or {@code null} if there is none.
+     */
+    CommandHandler match(final CommandTokenizer tokenizer) {
+        final int position = tokenizer.getPosition();
+        final KeywordNode child = tokenizer.readKeyword(this.children);
+        if (child != null) {
+            final CommandHandler childCommand = child.match(tokenizer);
+            if (childCommand != null) {
+                return childCommand;
+            }
+            tokenizer.moveTo(position);
+        }
+
+        if (this.command != null && this.command.readArguments(tokenizer) && tokenizer.isAtEnd()) {
+            return this.command;
+        }
+        return null;
+    }
+}
@@ -1,22 +1,59 @@
 package edu.kit.informatik.ui;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
 
 import edu.kit.informatik.config.ErrorMessages;
 import edu.kit.informatik.config.GeneralConfig;
 import edu.kit.informatik.game.QueensFarming;
+import edu.kit.informatik.persistence.CommandJournal;
+import edu.kit.informatik.persistence.JournalReplayer;
+import edu.kit.informatik.simulation.GameSpec;
 
 /**
  * The entry point of the game.
+ * Started without arguments, the game is played interactively. Started with
+ * {@value #BATCH_MODE_ARGUMENT}, the commands are read from a large buffer and
+ * the output is only flushed at the end of a turn once all buffered input has
+ * been used and when the input runs out, which is much faster for piped command
+ * transcripts. Both modes produce the same output.
+ * Started with {@value #JOURNAL_ARGUMENT} and a file, the setup and every
+ * accepted command are recorded in a {@link CommandJournal}. If the file
+ * already contains a journal, the game is restored from it and continued.
+ * As the console is run by the operator of the process, it also understands
+ * {@code stats}, which prints the latencies and errors of all commands.
  * 
  * @author uiljo
  * @version 1.0
  */
 public final class Main {
 
-    private static final String VALID_PLAYER_NAME_REGEX = "[A-Za-z]+";
+    /**
+     * The argument to start the game in batch mode
+     */
+    public static final String BATCH_MODE_ARGUMENT = "--batch";
+    /**
+     * The argument followed by the journal file of the game
+     */
+    public static final String JOURNAL_ARGUMENT = "--journal";
+
+    private static final int BATCH_BUFFER_SIZE = 1 << 16;
+    // shows the command statistics of the process, which only its operator may see
+    private static final String STATS_COMMAND = "stats";
 
-    private static Scanner inputScanner = new Scanner(System.in);
+    private static boolean isBatchMode;
+    private static Scanner inputScanner;
+    private static BufferedReader inputReader;
+    private static PrintStream output;
+    private static Path journalPath;
+    private static CommandJournal journal;
     private static QueensFarming game;
 
     private Main() {
@@ -29,41 +66,162 @@ public final class Main {
      * @param args command line arguments
      */
     public static void main(String[] args) {
-        if (args.length > 0) {
+        if (!readArguments(args)) {
             System.out.println(ErrorMessages.ILLEGAL_ARGS_COUNT);
             return;
         }
 
-        initializeSequence();
+        try {
+            if (!isBatchMode) {
+                inputScanner = new Scanner(System.in);
+                output = System.out;
+
+                play();
+                inputScanner.close();
+            } else {
+                inputReader = new BufferedReader(new InputStreamReader(System.in), BATCH_BUFFER_SIZE);
+                output = new PrintStream(new BufferedOutputStream(System.out, BATCH_BUFFER_SIZE), false);
+
+                try {
+                    play();
+                } catch (NoSuchElementException e) {
+                    // the input ran out before the game ended
+                } finally {
+                    output.flush();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println(ErrorMessages.JOURNAL_NOT_ACCESSIBLE);
+        } finally {
+            closeJournal();
+        }
+    }
+
+    private static boolean readArguments(String[] args) {
+        isBatchMode = false;
+        journalPath = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(BATCH_MODE_ARGUMENT) && !isBatchMode) {
+                isBatchMode = true;
+            } else if (args[i].equals(JOURNAL_ARGUMENT) && journalPath == null && i + 1 < args.length) {
+                i++;
+                journalPath = Path.of(args[i]);
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void play() throws IOException {
+        if (journalPath != null && Files.exists(journalPath) && Files.size(journalPath) > 0) {
+            restoreGame();
+        } else {
+            initializeSequence();
+        }
 
         while (game.isActive()) {
-            String turnInformation = game.startNextTurn();
-            if (turnInformation != null) {
-                System.out.println(turnInformation);
+            // a restored game may continue in the middle of a turn
+            if (!game.isTurnRunning()) {
+                String turnInformation = game.startNextTurn();
+                if (turnInformation != null) {
+                    output.println(turnInformation);
+                }
             }
 
             while (game.isTurnRunning()) {
-                String input = inputScanner.nextLine();
+                String input = readLine();
 
-                String output = CommandHandler.executeCommand(input, game);
-                if (output != null) {
-                    System.out.println(output);
+                String response = executeCommand(input);
+                if (response != null) {
+                    output.println(response);
                 }
             }
+
+            if (journal != null) {
+                journal.flush();
+            }
+            // a piped transcript is only flushed once all buffered input is used up
+            if (!isInputPending()) {
+                output.flush();
+            }
+        }
+
+        output.println(game.endGame());
+    }
+
+    private static String executeCommand(final String input) throws IOException {
+        if (STATS_COMMAND.equals(input)) {
+            return CommandHandler.getStatistics().snapshot().toString();
+        }
+        if (journal == null) {
+            return CommandHandler.executeCommand(input, game);
+        }
+        return CommandHandler.executeCommand(input, game, journal);
+    }
+
+    private static void restoreGame() throws IOException {
+        final JournalReplayer replayer = JournalReplayer.map(journalPath);
+        game = replayer.replay();
+        journal = CommandJournal.append(journalPath, replayer.getValidLength());
+
+        output.println(String.format("Restored the game from %d commands.", replayer.getReplayedCommands()));
+        // the turn was started quietly while replaying, so its header hasn't been shown
+        if (game.isActive() && game.isTurnRunning()) {
+            output.println();
+            output.println(game.showTurn());
+        }
+    }
+
+    private static void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.err.println(ErrorMessages.JOURNAL_NOT_ACCESSIBLE);
         }
+        journal = null;
+    }
+
+    private static boolean isInputPending() {
+        if (!isBatchMode) {
+            return false;
+        }
+
+        try {
+            return inputReader.ready();
+        } catch (IOException e) {
+            return false;
+        }
+    }
 
-        System.out.println(game.endGame());
+    private static String readLine() {
+        if (!isBatchMode) {
+            return inputScanner.nextLine();
+        }
 
-        inputScanner.close();
+        String line;
+        try {
+            line = inputReader.readLine();
+        } catch (IOException e) {
+            line = null;
+        }
+        if (line == null) {
+            throw new NoSuchElementException();
+        }
+        return line;
     }
 
-    private static void initializeSequence() {
-        System.out.println(GeneralConfig.PIXEL_ART);
+    private static void initializeSequence() throws IOException {
+        output.println(GeneralConfig.PIXEL_ART);
 
-        System.out.println("How many players?");
+        output.println("How many players?");
         Integer playerCount = null;
         while (playerCount == null) {
-            String playerCountString = inputScanner.nextLine();
+            String playerCountString = readLine();
 
             try {
                 playerCount = Integer.parseInt(playerCountString);
@@ -79,12 +237,12 @@ public final class Main {
 
         String[] playerNames = new String[playerCount];
         for (int i = 0; i < playerCount; i++) {
-            System.out.println(String.format("Enter the name of player %d:", i + 1));
+            output.println(String.format("Enter the name of player %d:", i + 1));
 
             while (playerNames[i] == null) {
-                String name = inputScanner.nextLine();
+                String name = readLine();
 
-                if (name.matches(VALID_PLAYER_NAME_REGEX)) {
+                if (name.matches(GeneralConfig.VALID_PLAYER_NAME_REGEX)) {
                     playerNames[i] = name;
                 } else {
                     System.err.println(ErrorMessages.PLAYER_NAME_NOT_VALID);
@@ -92,10 +250,10 @@ public final class Main {
             }
         }
 
-        System.out.println("With how much gold should each player start?");
+        output.println("With how much gold should each player start?");
         Integer goldAtStart = null;
         while (goldAtStart == null) {
-            String goldAtStartString = inputScanner.nextLine();
+            String goldAtStartString = readLine();
 
             try {
                 goldAtStart = Integer.parseInt(goldAtStartString);
@@ -109,10 +267,10 @@ public final class Main {
             }
         }
 
-        System.out.println("With how much gold should a player win?");
+        output.println("With how much gold should a player win?");
         Integer goldToWin = null;
         while (goldToWin == null) {
-            String goldToWinString = inputScanner.nextLine();
+            String goldToWinString = readLine();
 
             try {
                 goldToWin = Integer.parseInt(goldToWinString);
@@ -126,10 +284,10 @@ public final class Main {
             }
         }
 
-        System.out.println("Please enter the seed used to shuffle the tiles:");
+        output.println("Please enter the seed used to shuffle the tiles:");
         Integer seed = null;
         while (seed == null) {
-            String seedString = inputScanner.nextLine();
+            String seedString = readLine();
 
             try {
                 seed = Integer.parseInt(seedString);
@@ -138,6 +296,13 @@ public final class Main {
             }
         }
 
-        game = new QueensFarming(playerNames, goldAtStart, goldToWin, seed);
+        startGame(new GameSpec(playerNames, goldAtStart, goldToWin, seed));
+    }
+
+    private static void startGame(final GameSpec spec) throws IOException {
+        game = spec.createGame();
+        if (journalPath != null) {
+            journal = CommandJournal.create(journalPath, spec);
+        }
     }
 }
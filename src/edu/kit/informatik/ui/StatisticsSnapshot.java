@@ -0,0 +1,123 @@
+package edu.kit.informatik.ui;
+
+import java.util.Locale;
+
+import edu.kit.informatik.util.HistogramSnapshot;
+
+/**
+ * Represents the immutable {@link CommandStatistics} at one point in time.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public final class StatisticsSnapshot {
+
+    private static final double NANOS_PER_MICRO = 1000;
+    private static final double MEDIAN = 50;
+    private static final double HIGH_PERCENTILE = 99;
+
+    private final HistogramSnapshot[] latencies;
+    private final long[] commandErrors;
+    private final long[] errors;
+
+    /**
+     * Instantiates a new {@link StatisticsSnapshot}. The arrays are taken over.
+     * 
+     * @param latencies     The latencies of every command, indexed by the
+     *                      ordinal of the command.
+     * @param commandErrors The amount of errors of every command, indexed by the
+     *                      ordinal of the command.
+     * @param errors        The amount of every error, indexed by the index of
+     *                      the error.
+     */
+    StatisticsSnapshot(final HistogramSnapshot[] latencies, final long[] commandErrors, final long[] errors) {
+        this.latencies = latencies;
+        this.commandErrors = commandErrors;
+        this.errors = errors;
+    }
+
+    /**
+     * Returns the latencies of a command in nanoseconds.
+     * 
+     * @param command The command.
+     * @return the snapshot of its latency histogram.
+     */
+    public HistogramSnapshot getLatencies(final CommandHandler command) {
+        return this.latencies[command.ordinal()];
+    }
+
+    /**
+     * Returns how often a command has been executed.
+     * 
+     * @param command The command.
+     * @return the amount of executions, including failed ones.
+     */
+    public long getCount(final CommandHandler command) {
+        return this.latencies[command.ordinal()].getCount();
+    }
+
+    /**
+     * Returns how often a command has failed.
+     * 
+     * @param command The command.
+     * @return the amount of errors.
+     */
+    public long getErrorCount(final CommandHandler command) {
+        return this.commandErrors[command.ordinal()];
+    }
+
+    /**
+     * Returns how often an error has occurred.
+     * 
+     * @param errorMessage The constant of the error message. All messages that
+     *                     aren't constants are counted together.
+     * @return the amount of errors.
+     */
+    public long getErrorCount(final String errorMessage) {
+        return this.errors[CommandStatistics.indexOfError(errorMessage)];
+    }
+
+    private static String formatMicros(final long nanos) {
+        return String.format(Locale.ROOT, "%.1f us", nanos / NANOS_PER_MICRO);
+    }
+
+    private static void appendLineSeparator(final StringBuilder sb) {
+        if (sb.length() > 0) {
+            sb.append(System.lineSeparator());
+        }
+    }
+
+    /**
+     * Returns the amount, errors, p50, p99 and maximum latency of every executed
+     * command, followed by the amount of every error that occurred.
+     * 
+     * @return the string representation of the statistics.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        for (final CommandHandler command : CommandHandler.values()) {
+            final HistogramSnapshot histogram = this.getLatencies(command);
+            if (histogram.getCount() > 0) {
+                appendLineSeparator(sb);
+                sb.append(command.getKeyword()).append(": ").append(histogram.getCount()).append(" executed, ")
+                        .append(this.getErrorCount(command)).append(" failed, p50 ")
+                        .append(formatMicros(histogram.getValueAtPercentile(MEDIAN))).append(", p99 ")
+                        .append(formatMicros(histogram.getValueAtPercentile(HIGH_PERCENTILE))).append(", max ")
+                        .append(formatMicros(histogram.getMax()));
+            }
+        }
+
+        final String[] errorNames = CommandStatistics.getErrorNames();
+        for (int i = 0; i < this.errors.length; i++) {
+            if (this.errors[i] > 0) {
+                appendLineSeparator(sb);
+                sb.append(errorNames[i]).append(": ").append(this.errors[i]);
+            }
+        }
+        if (sb.length() == 0) {
+            return "No commands have been executed yet.";
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,112 @@
+package edu.kit.informatik.util;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import edu.kit.informatik.config.ErrorMessages;
+
+/**
+ * Utility class that adds reading and writing of booleans, strings and variable
+ * length integers to the default java byte buffer
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public final class ByteBufferUtil {
+
+    private static final int VAR_INT_PAYLOAD_BITS = 7;
+    private static final int VAR_INT_PAYLOAD = 0x7F;
+    private static final int VAR_INT_CONTINUATION = 0x80;
+
+    private ByteBufferUtil() {
+        throw new AssertionError(ErrorMessages.UTILITY_CLASS_INSTANTIATION);
+    }
+
+    /**
+     * Writes a boolean as a single byte.
+     * 
+     * @param buffer The buffer to write to.
+     * @param value  The boolean to write.
+     */
+    public static void putBoolean(final ByteBuffer buffer, final boolean value) {
+        buffer.put((byte) (value ? 1 : 0));
+    }
+
+    /**
+     * Reads a boolean written by {@link #putBoolean(ByteBuffer, boolean)}.
+     * 
+     * @param buffer The buffer to read from.
+     * @return the boolean read.
+     */
+    public static boolean getBoolean(final ByteBuffer buffer) {
+        return buffer.get() != 0;
+    }
+
+    /**
+     * Writes a string as its length in bytes followed by its UTF-8 bytes.
+     * 
+     * @param buffer The buffer to write to.
+     * @param value  The string to write.
+     */
+    public static void putString(final ByteBuffer buffer, final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #putString(ByteBuffer, String)}.
+     * 
+     * @param buffer The buffer to read from.
+     * @return the string read.
+     * @throws BufferUnderflowException if the string is longer than the remaining
+     *                                  bytes of the buffer.
+     */
+    public static String getString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length > buffer.remaining()) {
+            // checked before allocating, so a damaged length can't exhaust the memory
+            throw new BufferUnderflowException();
+        }
+
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes an integer in a variable length encoding, using one byte for values
+     * between -64 and 63 and up to five bytes for other values.
+     * 
+     * @param buffer The buffer to write to.
+     * @param value  The integer to write.
+     */
+    public static void putVarInt(final ByteBuffer buffer, final int value) {
+        // zigzag encoding maps small negative values to small positive values
+        int remaining = (value << 1) ^ (value >> (Integer.SIZE - 1));
+        while ((remaining & ~VAR_INT_PAYLOAD) != 0) {
+            buffer.put((byte) ((remaining & VAR_INT_PAYLOAD) | VAR_INT_CONTINUATION));
+            remaining >>>= VAR_INT_PAYLOAD_BITS;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    /**
+     * Reads an integer written by {@link #putVarInt(ByteBuffer, int)}.
+     * 
+     * @param buffer The buffer to read from.
+     * @return the integer read.
+     */
+    public static int getVarInt(final ByteBuffer buffer) {
+        int encoded = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = buffer.get();
+            encoded |= (current & VAR_INT_PAYLOAD) << shift;
+            shift += VAR_INT_PAYLOAD_BITS;
+        } while ((current & VAR_INT_CONTINUATION) != 0 && shift < Integer.SIZE);
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+}
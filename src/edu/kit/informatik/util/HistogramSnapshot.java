@@ -0,0 +1,71 @@
+package edu.kit.informatik.util;
+
+/**
+ * Represents the immutable values of a {@link LatencyHistogram} at one point in
+ * time.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public final class HistogramSnapshot {
+
+    private static final double HUNDRED_PERCENT = 100;
+
+    private final long[] counts;
+    private final long count;
+    private final long max;
+
+    /**
+     * Instantiates a new {@link HistogramSnapshot}.
+     * 
+     * @param counts The amount of values in every bucket, which is taken over.
+     * @param max    The highest recorded value.
+     */
+    HistogramSnapshot(final long[] counts, final long max) {
+        this.counts = counts;
+        long totalCount = 0;
+        for (final long bucketCount : counts) {
+            totalCount += bucketCount;
+        }
+        this.count = totalCount;
+        this.max = max;
+    }
+
+    /**
+     * Returns the amount of recorded values.
+     * 
+     * @return the amount of values.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the highest recorded value.
+     * 
+     * @return the highest value, {@code 0} if no value has been recorded.
+     */
+    public long getMax() {
+        return this.max;
+    }
+
+    /**
+     * Returns the value below or at which the given percentage of all recorded
+     * values lie, rounded up to the highest value of its bucket.
+     * 
+     * @param percentile The percentage between {@code 0} and {@code 100}.
+     * @return the value at the percentile, {@code 0} if no value has been
+     *         recorded.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        final long rank = Math.max(1, (long) Math.ceil(percentile / HUNDRED_PERCENT * this.count));
+        long seenCount = 0;
+        for (int bucket = 0; bucket < this.counts.length; bucket++) {
+            seenCount += this.counts[bucket];
+            if (seenCount >= rank) {
+                return Math.min(LatencyHistogram.highestValueOf(bucket), this.max);
+            }
+        }
+        return this.max;
+    }
+}
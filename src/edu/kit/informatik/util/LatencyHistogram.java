@@ -0,0 +1,96 @@
+package edu.kit.informatik.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of latencies in nanoseconds with log-linear buckets: every power
+ * of two is split into {@value #SUB_BUCKET_COUNT} buckets of equal width, so
+ * the relative error of a value is below 1/{@value #SUB_BUCKET_COUNT} and all
+ * non-negative {@code long} values fit into a fixed number of buckets.
+ * Values can be recorded by any number of threads without locks and without
+ * allocating.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class LatencyHistogram {
+
+    /**
+     * The amount of buckets every power of two is split into
+     */
+    static final int SUB_BUCKET_COUNT = 16;
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong max;
+
+    /**
+     * Instantiates a new, empty {@link LatencyHistogram}.
+     */
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * Returns the bucket of a value. The values below {@value #SUB_BUCKET_COUNT}
+     * have a bucket each, the bucket of a larger value is given by its highest
+     * bit and the {@code log2(SUB_BUCKET_COUNT)} bits below it.
+     * 
+     * @param value The non-negative value.
+     * @return the index of the bucket.
+     */
+    static int bucketOf(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    /**
+     * Returns the highest value of a bucket.
+     * 
+     * @param bucket The index of the bucket.
+     * @return the highest value that falls into the bucket.
+     */
+    static long highestValueOf(final int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKET_COUNT - 1;
+        final long lowestValue = (long) (bucket % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+
+    /**
+     * Records a value. Negative values are recorded as {@code 0}.
+     * 
+     * @param value The latency in nanoseconds.
+     */
+    public void record(final long value) {
+        final long clampedValue = Math.max(0, value);
+        this.counts.incrementAndGet(bucketOf(clampedValue));
+
+        long currentMax = this.max.get();
+        while (clampedValue > currentMax && !this.max.compareAndSet(currentMax, clampedValue)) {
+            currentMax = this.max.get();
+        }
+    }
+
+    /**
+     * Returns a copy of the recorded values. Values recorded concurrently may or
+     * may not be included.
+     * 
+     * @return the snapshot of the histogram.
+     */
+    public HistogramSnapshot snapshot() {
+        final long[] countsCopy = new long[BUCKET_COUNT];
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            countsCopy[bucket] = this.counts.get(bucket);
+        }
+        return new HistogramSnapshot(countsCopy, this.max.get());
+    }
+}
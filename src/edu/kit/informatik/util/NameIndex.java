@@ -0,0 +1,79 @@
+package edu.kit.informatik.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * An immutable index of values by their names, which finds the value named by
+ * a range of a character sequence without creating a substring. The values are
+ * grouped by the first character of their name, so only the names starting
+ * with the same character are compared.
+ * 
+ * @param <T> The type of the values.
+ * @author uiljo
+ * @version 1.0
+ */
+public final class NameIndex<T> {
+
+    private static final int ASCII_RANGE = 128;
+
+    // names and values indexed by [first character of the name][index in the group]
+    private final String[][] namesByInitial;
+    private final Object[][] valuesByInitial;
+
+    /**
+     * Instantiates a new {@link NameIndex}. The values of a group keep their
+     * order.
+     * 
+     * @param values The values to index.
+     * @param nameOf Returns the unique name of a value, which must start with an
+     *               ASCII character.
+     */
+    public NameIndex(final List<T> values, final Function<T, String> nameOf) {
+        this.namesByInitial = new String[ASCII_RANGE][0];
+        this.valuesByInitial = new Object[ASCII_RANGE][0];
+        for (final T value : values) {
+            final String name = nameOf.apply(value);
+            final int initial = name.charAt(0);
+
+            final int groupSize = this.namesByInitial[initial].length;
+            this.namesByInitial[initial] = Arrays.copyOf(this.namesByInitial[initial], groupSize + 1);
+            this.namesByInitial[initial][groupSize] = name;
+            this.valuesByInitial[initial] = Arrays.copyOf(this.valuesByInitial[initial], groupSize + 1);
+            this.valuesByInitial[initial][groupSize] = value;
+        }
+    }
+
+    private static boolean regionEquals(final String name, final CharSequence s, final int start) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != s.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the value whose name is the given range of a character sequence.
+     * 
+     * @param s     The character sequence containing the name.
+     * @param start The index of the first character of the name.
+     * @param end   The index after the last character of the name.
+     * @return The value with the name or {@code null} if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public T find(final CharSequence s, final int start, final int end) {
+        if (start >= end || s.charAt(start) >= ASCII_RANGE) {
+            return null;
+        }
+
+        final String[] names = this.namesByInitial[s.charAt(start)];
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].length() == end - start && regionEquals(names[i], s, start)) {
+                return (T) this.valuesByInitial[s.charAt(start)][i];
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,85 @@
+package edu.kit.informatik.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import edu.kit.informatik.game.type.VegetableType;
+
+/**
+ * Read-only map view of vegetable counts stored in an array indexed by the
+ * ordinal of the vegetable type. The view contains every vegetable type in
+ * declaration order, like a completely filled enum map, and reflects later
+ * changes of the array.
+ * 
+ * @author uiljo
+ * @version 1.0
+ */
+public class VegetableCountView extends AbstractMap<VegetableType, Integer> {
+
+    private static final VegetableType[] VEGETABLES = VegetableType.values();
+
+    private final int[] counts;
+    private final Set<Entry<VegetableType, Integer>> entrySet;
+
+    /**
+     * Instantiates a new {@link VegetableCountView}.
+     * 
+     * @param counts The counts indexed by the ordinal of the vegetable type.
+     */
+    public VegetableCountView(final int[] counts) {
+        this.counts = counts;
+        this.entrySet = new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<VegetableType, Integer>> iterator() {
+                return new Iterator<>() {
+                    private int ordinal = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.ordinal < VEGETABLES.length;
+                    }
+
+                    @Override
+                    public Entry<VegetableType, Integer> next() {
+                        if (!this.hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        final int current = this.ordinal++;
+                        return new SimpleImmutableEntry<>(VEGETABLES[current], counts[current]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return VEGETABLES.length;
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<VegetableType, Integer>> entrySet() {
+        return this.entrySet;
+    }
+
+    @Override
+    public int size() {
+        return VEGETABLES.length;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof VegetableType;
+    }
+
+    @Override
+    public Integer get(final Object key) {
+        if (!(key instanceof VegetableType)) {
+            return null;
+        }
+        return this.counts[((VegetableType) key).ordinal()];
+    }
+}